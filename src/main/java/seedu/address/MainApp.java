@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +14,7 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,8 +25,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ChunkedAddressBookStorage;
+import seedu.address.storage.CompressedJsonAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RecordFileAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -45,6 +53,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AddressBookLoader addressBookLoader;
 
     @Override
     public void init() throws Exception {
@@ -56,24 +65,57 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(userPrefs);
+        addressBookLoader = new AddressBookLoader(model, Platform::runLater);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, addressBookLoader);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case BINARY:
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case RECORD_FILE:
+            return new RecordFileAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case CHUNKED:
+            return new ChunkedAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case COMPRESSED_JSON:
+            return new CompressedJsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getAddressBookCompressionLevel());
+        case SHARDED:
+            return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Returns an empty {@code ModelManager} with {@code userPrefs}, which the address book is loaded into once the
+     * window is shown.
+     */
+    private Model initModelManager(ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(new AddressBook(), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be returned instead if {@code storage}'s address book is not found,
+     * or an empty address book will be returned instead if errors occur when reading {@code storage}'s address book.
+     */
+    protected ReadOnlyAddressBook readAddressBook() {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -89,8 +131,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
         }
-
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -169,11 +210,18 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        // the window is already shown, and fills with persons as they are loaded
+        addressBookLoader.load(this::readAddressBook, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-loader");
+            thread.setDaemon(true);
+            thread.start();
+        }, () -> { });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
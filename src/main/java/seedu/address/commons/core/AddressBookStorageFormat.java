@@ -0,0 +1,21 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the address book can be stored in.
+ */
+public enum AddressBookStorageFormat {
+    /** A single JSON file that is rewritten on every save. */
+    JSON,
+    /** A JSON snapshot plus a journal of the changes since, which is compacted into a new snapshot once it grows. */
+    JOURNAL,
+    /** A compact binary file that is rewritten on every save, and is much faster to load than JSON. */
+    BINARY,
+    /** A file of binary person records with an offset table, from which persons are paged in as they are loaded. */
+    RECORD_FILE,
+    /** A file of checksummed chunks of persons, of which a save only rewrites the chunks that changed. */
+    CHUNKED,
+    /** A JSON file like {@link #JSON}, but deflated, which is several times smaller to read and write. */
+    COMPRESSED_JSON,
+    /** A manifest plus json shard files, which are read and written in parallel, and only rewritten when changed. */
+    SHARDED
+}
@@ -1,17 +1,31 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The first bytes of every file written by {@link #newCompressedOutputStream(Path, int)}. */
+    public static final int COMPRESSED_FILE_MAGIC_NUMBER = 0xAB5A4C01;
+
     private static final String CHARSET = "UTF-8";
+    private static final int COMPRESSION_BUFFER_SIZE = 8192;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +94,104 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns {@code size} bytes of {@code channel} from {@code position} on, without moving the channel's position,
+     * so that several threads can read from the channel at once.
+     * @throws EOFException if the channel ends before {@code size} bytes are read.
+     */
+    public static ByteBuffer readFully(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes all of {@code buffer} to {@code channel} from {@code position} on, without moving the channel's position.
+     */
+    public static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long nextPosition = position;
+        while (buffer.hasRemaining()) {
+            nextPosition += channel.write(buffer, nextPosition);
+        }
+    }
+
+    /**
+     * Returns a stream that writes to {@code file} the deflated bytes of everything written to it, after
+     * {@link #COMPRESSED_FILE_MAGIC_NUMBER}. Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param compressionLevel the level of the {@code Deflater}, from 0 (fastest) to 9 (smallest).
+     */
+    public static OutputStream newCompressedOutputStream(Path file, int compressionLevel) throws IOException {
+        Deflater deflater = new Deflater(compressionLevel);
+        OutputStream out = Files.newOutputStream(file);
+        try {
+            out.write(ByteBuffer.allocate(Integer.BYTES).putInt(COMPRESSED_FILE_MAGIC_NUMBER).array());
+        } catch (IOException ioe) {
+            out.close();
+            deflater.end();
+            throw ioe;
+        }
+        return new DeflaterOutputStream(out, deflater, COMPRESSION_BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    def.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a buffered stream of the contents of {@code file}. A file written by
+     * {@link #newCompressedOutputStream(Path, int)} is inflated as it is read, so callers can read both kinds of
+     * files alike.
+     */
+    public static InputStream newDecompressedInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), COMPRESSION_BUFFER_SIZE);
+        try {
+            if (!startsWithCompressedFileMagicNumber(in)) {
+                return in;
+            }
+        } catch (IOException ioe) {
+            in.close();
+            throw ioe;
+        }
+        return new InflaterInputStream(in, new Inflater(), COMPRESSION_BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns true if {@code in} starts with {@link #COMPRESSED_FILE_MAGIC_NUMBER}, which is then skipped.
+     * Otherwise, {@code in} is reset to where it started.
+     */
+    private static boolean startsWithCompressedFileMagicNumber(InputStream in) throws IOException {
+        in.mark(Integer.BYTES);
+        byte[] magicNumber = new byte[Integer.BYTES];
+        int length = 0;
+        int read = 0;
+        while (length < magicNumber.length && read != -1) {
+            read = in.read(magicNumber, length, magicNumber.length - length);
+            length += Math.max(read, 0);
+        }
+        if (length == magicNumber.length && ByteBuffer.wrap(magicNumber).getInt() == COMPRESSED_FILE_MAGIC_NUMBER) {
+            return true;
+        }
+        in.reset();
+        return false;
+    }
+
 }
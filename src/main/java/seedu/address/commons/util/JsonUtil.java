@@ -3,18 +3,27 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -40,12 +49,16 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = Files.newOutputStream(jsonFile)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -90,6 +103,104 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayFieldName} of the JSON object in the given file one at a time,
+     * and passes each of them to {@code elementHandler} as soon as it is read.
+     * Only one element is held in memory at a time, however large the file is. Other fields of the object are skipped,
+     * and a missing or null array has no elements. A file saved by {@link #saveCompressedJsonArrayFile} is
+     * decompressed as it is read.
+     * @param filePath cannot be null.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @throws IOException if the file cannot be read, or is not a JSON object with an array {@code arrayFieldName}.
+     */
+    public static <T, E extends Exception> void readJsonArrayFile(Path filePath, String arrayFieldName,
+            Class<T> elementClass, JsonElementHandler<? super T, E> elementHandler) throws IOException, E {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+
+        try (JsonParser parser = objectMapper.getFactory()
+                .createParser(FileUtil.newDecompressedInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = parser.getCurrentName().equals(arrayFieldName);
+                JsonToken value = parser.nextToken();
+                if (!isArrayField || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + arrayFieldName + " to be a JSON array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the JSON object to be closed");
+            }
+        }
+    }
+
+    /**
+     * Saves a JSON object whose only field is the array {@code arrayFieldName} to the specified file, writing the
+     * {@code elements} one at a time as they are taken from the iterator.
+     * Only one element is held in memory at a time, so {@code elements} can convert each one as it is taken.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterator<?> elements)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            writeJsonArray(out, arrayFieldName, elements, true);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, String, Iterator)}, but the JSON is written without indentation and
+     * compressed as by {@link FileUtil#newCompressedOutputStream(Path, int)}, while it is generated.
+     * {@link #readJsonArrayFile} reads the file back as it reads any other JSON file.
+     * @param compressionLevel the level of the {@code Deflater}, from 0 (fastest) to 9 (smallest).
+     */
+    public static void saveCompressedJsonArrayFile(Path filePath, String arrayFieldName, Iterator<?> elements,
+            int compressionLevel) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        try (OutputStream out = FileUtil.newCompressedOutputStream(filePath, compressionLevel)) {
+            writeJsonArray(out, arrayFieldName, elements, false);
+        }
+    }
+
+    /**
+     * Writes the JSON object of {@link #saveJsonArrayFile} to {@code out}, which is flushed but left open for the
+     * caller to close, so that it is closed even if the generator cannot be created.
+     */
+    private static void writeJsonArray(OutputStream out, String arrayFieldName, Iterator<?> elements,
+            boolean isPrettyPrinted) throws IOException {
+        // the generator is buffered already, so it should not be flushed to the file after every element
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +221,27 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line and without
+     * any whitespace between values, so that many of them can be written one per line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles the elements read by {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}.
+     * @param <T> the type of the elements
+     * @param <E> the type of exception thrown for an element that cannot be handled
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -48,6 +48,40 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * single character insertions, deletions and substitutions that turn one into the other.
+     *   Case sensitive.
+     *   <br>examples:<pre>
+     *       editDistance("kitten", "sitting") == 3
+     *       editDistance("abc", "abc") == 0
+     *       editDistance("", "abc") == 3
+     *       </pre>
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // distances from the prefixes of first to the previous and current prefix of second
+        int[] previousRow = new int[first.length() + 1];
+        int[] currentRow = new int[first.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            previousRow[i] = i;
+        }
+        for (int j = 1; j <= second.length(); j++) {
+            currentRow[0] = j;
+            for (int i = 1; i <= first.length(); i++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[i] = Math.min(previousRow[i - 1] + substitutionCost,
+                        Math.min(previousRow[i], currentRow[i - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[first.length()];
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
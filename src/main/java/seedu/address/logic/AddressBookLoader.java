@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads an address book into a model while the model is already in use, so that the application can be shown before
+ * a large address book is read.
+ *
+ * The address book is read on a background thread, and its persons are then appended to the model in batches on the
+ * thread that owns the model. Each batch is waited for before the next one is handed over, so that whatever shows the
+ * model is updated between batches.
+ */
+public class AddressBookLoader {
+
+    public static final int BATCH_SIZE = 500;
+
+    /** The progress while the address book is being read, the same as {@code ProgressIndicator}'s. */
+    public static final double INDETERMINATE_PROGRESS = -1;
+
+    public static final String MESSAGE_LOAD_FAILED = "Could not load the address book: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(1);
+    private Consumer<String> loadFailureHandler = unused -> { };
+
+    /**
+     * Creates a loader that appends persons to {@code model} by running tasks on {@code modelExecutor}, which must
+     * run them on the thread that owns the model.
+     */
+    public AddressBookLoader(Model model, Executor modelExecutor) {
+        requireAllNonNull(model, modelExecutor);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts loading the address book returned by {@code reader}, which is called by {@code readExecutor}.
+     * {@code onLoaded} is run on the thread that owns the model once every person is appended, before loading is
+     * marked as finished. Must be called on the thread that owns the model, which must not have been changed yet.
+     *
+     * Loading is marked as finished even if reading or appending fails, and the failure is then given to the handler
+     * set by {@link #setLoadFailureHandler}. The persons appended until then stay in the model.
+     */
+    public void load(Supplier<ReadOnlyAddressBook> reader, Executor readExecutor, Runnable onLoaded) {
+        requireAllNonNull(reader, readExecutor, onLoaded);
+        loading.set(true);
+        progress.set(INDETERMINATE_PROGRESS);
+
+        readExecutor.execute(() -> {
+            Throwable failure = null;
+            try {
+                List<Person> persons = reader.get().getPersonList();
+                logger.info("Address book read, adding " + persons.size() + " persons");
+                for (int start = 0; start < persons.size(); start += BATCH_SIZE) {
+                    int end = Math.min(start + BATCH_SIZE, persons.size());
+                    // copied on this thread, so that a storage that pages persons in as they are accessed reads
+                    // them here rather than on the thread that owns the model
+                    List<Person> batch = new ArrayList<>(persons.subList(start, end));
+                    double batchProgress = (double) end / persons.size();
+                    runOnModelThread(() -> {
+                        model.loadPersons(batch);
+                        progress.set(batchProgress);
+                    });
+                }
+                runOnModelThread(onLoaded);
+            } catch (RuntimeException re) {
+                // a failure on the thread that owns the model comes wrapped by runOnModelThread
+                failure = re instanceof CompletionException && re.getCause() != null ? re.getCause() : re;
+                logger.severe("Failed to load the address book: " + StringUtil.getDetails(failure));
+            } finally {
+                String failureMessage = failure == null ? null : String.format(MESSAGE_LOAD_FAILED, failure);
+                runOnModelThread(() -> {
+                    progress.set(1);
+                    loading.set(false);
+                    if (failureMessage != null) {
+                        loadFailureHandler.accept(failureMessage);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Sets the handler that is given an error message when loading the address book fails.
+     * The handler is called on the thread that owns the model.
+     */
+    public void setLoadFailureHandler(Consumer<String> loadFailureHandler) {
+        requireNonNull(loadFailureHandler);
+        this.loadFailureHandler = loadFailureHandler;
+    }
+
+    /**
+     * Runs {@code task} on the thread that owns the model, and waits for it to finish.
+     */
+    private void runOnModelThread(Runnable task) {
+        CompletableFuture.runAsync(task, modelExecutor).join();
+    }
+
+    /**
+     * Returns true while an address book is being loaded. Changes on the thread that owns the model.
+     */
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    /**
+     * Returns the fraction of the persons loaded so far, {@link #INDETERMINATE_PROGRESS} while the address book is
+     * read, or 1 when no address book is being loaded. Changes on the thread that owns the model.
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+}
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -17,6 +20,8 @@ import seedu.address.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * While the address book is loading, a command that needs the whole address book is queued instead, and executed
+     * once it is loaded. Its feedback is then given to the handler set by {@link #setQueuedCommandResultHandler}.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -24,6 +29,35 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message whenever saving the address book fails.
+     * The address book is saved in the background after a command modifies it, so the handler is called on a
+     * background thread, after the command has returned.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Sets the handler that is given the feedback of every command that was queued while the address book was loading,
+     * once the command is executed. The handler is called on the thread that owns the model.
+     */
+    void setQueuedCommandResultHandler(Consumer<String> queuedCommandResultHandler);
+
+    /**
+     * Sets the handler that is given an error message if loading the address book fails.
+     * The handler is called on the thread that owns the model.
+     */
+    void setLoadFailureHandler(Consumer<String> loadFailureHandler);
+
+    /**
+     * Returns the progress of loading the address book, from 0 to 1, or a negative value while it is being read.
+     */
+    ReadOnlyDoubleProperty loadProgressProperty();
+
+    /**
+     * Blocks until every modification of the address book made so far is saved.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
@@ -40,6 +74,12 @@ public interface Logic {
      */
     ObservableList<String> getHistory();
 
+    /**
+     * Returns completions of {@code commandText}, as entered so far by the user, in the order they should be shown.
+     * Each completion is the whole command text with its last word completed.
+     */
+    List<String> getCommandSuggestions(String commandText);
+
     /**
      * Returns the user prefs' address book file path.
      */
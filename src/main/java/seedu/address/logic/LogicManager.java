@@ -1,21 +1,31 @@
 package seedu.address.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -23,47 +33,125 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final int MAX_COMMAND_SUGGESTIONS = 10;
+    public static final String MESSAGE_COMMAND_QUEUED = "The address book is still loading, \"%1$s\" will be "
+            + "executed once it is loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final AsyncAddressBookSaver saver;
+    private final AddressBookLoader loader;
+    /** The commands entered while the address book was loading, which need the whole address book. */
+    private final List<Command> queuedCommands = new ArrayList<>();
     private boolean addressBookModified;
+    /** Read by the thread that saves the address book, so it must be volatile. */
+    private volatile Consumer<String> saveFailureHandler = unused -> { };
+    private Consumer<String> queuedCommandResultHandler = unused -> { };
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new AddressBookLoader(model, Runnable::run));
+    }
+
+    /**
+     * Creates a {@code LogicManager} that queues the commands that need the whole address book while {@code loader}
+     * is loading it, and executes them once it is loaded.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader loader) {
         this.model = model;
-        this.storage = storage;
+        this.loader = loader;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
+        saver = new AsyncAddressBookSaver(storage,
+                ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
 
         // Set addressBookModified to true whenever the models' address book is modified.
         model.getAddressBook().addListener(observable -> addressBookModified = true);
+        loader.loadingProperty().addListener((observable, wasLoading, isLoading) -> {
+            if (!isLoading) {
+                executeQueuedCommands();
+            }
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        addressBookModified = false;
 
         CommandResult commandResult;
         try {
             Command command = addressBookParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            if (loader.isLoading() && command.needsLoadedAddressBook()) {
+                logger.info("Address book still loading, queueing command.");
+                queuedCommands.add(command);
+                commandResult = new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText));
+            } else {
+                commandResult = execute(command);
+            }
         } finally {
             history.add(commandText);
         }
 
+        return commandResult;
+    }
+
+    /**
+     * Executes {@code command}, and saves the address book in the background if the command modified it.
+     */
+    private CommandResult execute(Command command) throws CommandException {
+        addressBookModified = false;
+        CommandResult commandResult = command.execute(model, history);
+
         if (addressBookModified) {
-            logger.info("Address book modified, saving to file.");
+            logger.info("Address book modified, saving to file in the background.");
+            saver.requestSave(model.getAddressBookSnapshot());
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Executes the commands that were queued while the address book was loading, in the order they were entered,
+     * and hands the feedback of each to {@code queuedCommandResultHandler}.
+     */
+    private void executeQueuedCommands() {
+        List<Command> commands = new ArrayList<>(queuedCommands);
+        queuedCommands.clear();
+        for (Command command : commands) {
             try {
-                storage.saveAddressBook(model.getAddressBook());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+                queuedCommandResultHandler.accept(execute(command).getFeedbackToUser());
+            } catch (CommandException ce) {
+                queuedCommandResultHandler.accept(ce.getMessage());
             }
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void setQueuedCommandResultHandler(Consumer<String> queuedCommandResultHandler) {
+        requireNonNull(queuedCommandResultHandler);
+        this.queuedCommandResultHandler = queuedCommandResultHandler;
+    }
+
+    @Override
+    public void setLoadFailureHandler(Consumer<String> loadFailureHandler) {
+        loader.setLoadFailureHandler(loadFailureHandler);
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty loadProgressProperty() {
+        return loader.progressProperty();
+    }
+
+    @Override
+    public void flush() {
+        saver.flush();
     }
 
     @Override
@@ -81,6 +169,31 @@ public class LogicManager implements Logic {
         return history.getHistory();
     }
 
+    /**
+     * {@inheritDoc}
+     * Only the name keywords of a {@code find} command are completed, from the words of the person names.
+     */
+    @Override
+    public List<String> getCommandSuggestions(String commandText) {
+        requireNonNull(commandText);
+        int lastWordStart = commandText.length();
+        while (lastWordStart > 0 && !Character.isWhitespace(commandText.charAt(lastWordStart - 1))) {
+            lastWordStart--;
+        }
+        String textBeforeLastWord = commandText.substring(0, lastWordStart);
+        String lastWord = commandText.substring(lastWordStart);
+        String[] previousWords = textBeforeLastWord.trim().split("\\s+");
+        if (lastWord.isEmpty() || lastWord.endsWith(NameContainsKeywordsPredicate.PREFIX_WILDCARD)
+                || lastWord.endsWith(NameContainsKeywordsPredicate.FUZZY_SUFFIX)
+                || !previousWords[0].equals(FindCommand.COMMAND_WORD)) {
+            return Collections.emptyList();
+        }
+
+        return model.suggestNameWords(lastWord, MAX_COMMAND_SUGGESTIONS).stream()
+                .map(word -> textBeforeLastWord + word)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -19,4 +19,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns true if the command needs the whole address book, and so must wait for it to finish loading.
+     */
+    public boolean needsLoadedAddressBook() {
+        return true;
+    }
+
 }
@@ -17,4 +17,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
 }
@@ -1,14 +1,27 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.OptionalInt;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.RankedPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * or who match all of the given fields, optionally only the best few matches.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -17,19 +30,56 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword ending with " + NameContainsKeywordsPredicate.PREFIX_WILDCARD
+            + " matches any word that starts with it, and a keyword ending with "
+            + NameContainsKeywordsPredicate.FUZZY_SUFFIX + " matches any word within a few typos of it.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie ro" + NameContainsKeywordsPredicate.PREFIX_WILDCARD
+            + " jonh" + NameContainsKeywordsPredicate.FUZZY_SUFFIX + "\n"
+            + "Alternatively, finds all persons that match every field given: "
+            + "names containing any of the keywords, any of the exact phones and emails, "
+            + "addresses containing any of the keywords, and at least one tag of every " + PREFIX_TAG + " "
+            + "but none of the " + PREFIX_EXCLUDED_TAG + " tags.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE]... "
+            + "[" + PREFIX_EMAIL + "EMAIL]... "
+            + "[" + PREFIX_ADDRESS + "KEYWORDS] "
+            + "[" + PREFIX_TAG + "TAG [MORE_TAGS]]... "
+            + "[" + PREFIX_EXCLUDED_TAG + "TAG [MORE_TAGS]]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice " + PREFIX_ADDRESS + "clementi "
+            + PREFIX_TAG + "friends colleagues " + PREFIX_EXCLUDED_TAG + "former\n"
+            + "Add " + PREFIX_TOP + "K to either form to list only the K best matches, best first: "
+            + "a keyword matching a whole word beats one matching the start of a word, which beats a fuzzy match, "
+            + "and names count more than addresses.\n"
+            + "Example: " + COMMAND_WORD + " alice bo" + NameContainsKeywordsPredicate.PREFIX_WILDCARD + " "
+            + PREFIX_TOP + "10";
+
+    private final Predicate<Person> predicate;
+    /** The number of best matches to list, or empty to list every match in address book order. */
+    private final OptionalInt limit;
 
-    private final NameContainsKeywordsPredicate predicate;
+    public FindCommand(Predicate<Person> predicate) {
+        this.predicate = predicate;
+        this.limit = OptionalInt.empty();
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    /**
+     * Creates a FindCommand that lists only the {@code limit} persons that best match {@code predicate}.
+     */
+    public FindCommand(RankedPredicate predicate, int limit) {
         this.predicate = predicate;
+        this.limit = OptionalInt.of(limit);
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (limit.isPresent()) {
+            model.rankFilteredPersonList((RankedPredicate) predicate, limit.getAsInt());
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -38,6 +88,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && limit.equals(((FindCommand) other).limit)); // state check
     }
 }
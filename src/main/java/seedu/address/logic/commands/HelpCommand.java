@@ -19,4 +19,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
 }
@@ -30,4 +30,8 @@ public class HistoryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
     }
 
+    @Override
+    public boolean needsLoadedAddressBook() {
+        return false;
+    }
 }
@@ -6,6 +6,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedAddressBook.NoUndoableStateException;
 
 /**
  * Reverts the {@code model}'s address book to its previous state.
@@ -15,6 +16,7 @@ public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_HISTORY_LOST = "Older undo history was lost, no more commands to undo!";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
@@ -24,7 +26,12 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoAddressBook();
+        try {
+            model.undoAddressBook();
+        } catch (NoUndoableStateException nuse) {
+            // the older states could not be read back from disk, and are discarded
+            throw new CommandException(MESSAGE_HISTORY_LOST);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -1,12 +1,33 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCLUDED_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.RankedPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +46,85 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+                        PREFIX_EXCLUDED_TAG, PREFIX_TOP);
+        boolean hasFieldPrefixes = Stream.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+                PREFIX_EXCLUDED_TAG).anyMatch(prefix -> argMultimap.getValue(prefix).isPresent());
+        String preamble = argMultimap.getPreamble();
+        if (hasFieldPrefixes == !preamble.isEmpty()) {
+            // the fields are given either all as name keywords in the preamble or all with prefixes
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        RankedPredicate predicate = hasFieldPrefixes
+                ? parseQuery(argMultimap)
+                : new NameContainsKeywordsPredicate(splitKeywords(preamble));
+        if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            return new FindCommand(predicate, ParserUtil.parseLimit(argMultimap.getValue(PREFIX_TOP).get()));
+        }
+        return new FindCommand(predicate);
+    }
+
+    /**
+     * Parses the fields given with prefixes in {@code argMultimap} into a query that matches all of them.
+     * @throws ParseException if any of the fields is invalid.
+     */
+    private static PersonQuery parseQuery(ArgumentMultimap argMultimap) throws ParseException {
+        List<Predicate<Person>> criteria = new ArrayList<>();
+        if (!argMultimap.getAllValues(PREFIX_NAME).isEmpty()) {
+            criteria.add(new NameContainsKeywordsPredicate(parseKeywords(argMultimap.getAllValues(PREFIX_NAME))));
+        }
+        if (!argMultimap.getAllValues(PREFIX_PHONE).isEmpty()) {
+            List<String> phones = new ArrayList<>();
+            for (String phone : argMultimap.getAllValues(PREFIX_PHONE)) {
+                phones.add(ParserUtil.parsePhone(phone).value);
+            }
+            criteria.add(new PhoneMatchesPredicate(phones));
+        }
+        if (!argMultimap.getAllValues(PREFIX_EMAIL).isEmpty()) {
+            List<String> emails = new ArrayList<>();
+            for (String email : argMultimap.getAllValues(PREFIX_EMAIL)) {
+                emails.add(ParserUtil.parseEmail(email).value);
+            }
+            criteria.add(new EmailMatchesPredicate(emails));
+        }
+        if (!argMultimap.getAllValues(PREFIX_ADDRESS).isEmpty()) {
+            criteria.add(new AddressContainsKeywordsPredicate(
+                    parseKeywords(argMultimap.getAllValues(PREFIX_ADDRESS))));
+        }
+        List<String> requiredTagValues = argMultimap.getAllValues(PREFIX_TAG);
+        List<String> excludedTagValues = argMultimap.getAllValues(PREFIX_EXCLUDED_TAG);
+        if (!requiredTagValues.isEmpty() || !excludedTagValues.isEmpty()) {
+            // the tags of one t/ are alternatives, while every t/ is required
+            List<Set<Tag>> requiredTagGroups = new ArrayList<>();
+            for (String tagGroup : requiredTagValues) {
+                requiredTagGroups.add(ParserUtil.parseTags(parseKeywords(Collections.singletonList(tagGroup))));
+            }
+            Set<Tag> excludedTags = ParserUtil.parseTags(parseKeywords(excludedTagValues));
+            criteria.add(new TagsMatchPredicate(requiredTagGroups, excludedTags));
+        }
+
+        return new PersonQuery(criteria);
+    }
+
+    /**
+     * Splits each of {@code values} into keywords.
+     * @throws ParseException if any of {@code values} has no keywords.
+     */
+    private static List<String> parseKeywords(List<String> values) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String value : values) {
+            if (value.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            keywords.addAll(splitKeywords(value));
+        }
+        return keywords;
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static List<String> splitKeywords(String trimmedValue) {
+        return Arrays.asList(trimmedValue.split("\\s+"));
     }
 
 }
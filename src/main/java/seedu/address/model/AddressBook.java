@@ -57,6 +57,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // persons of another AddressBook are already known to be unique, so they need not be validated again.
+            persons.setPersons(((AddressBook) newData).persons);
+            indicateModified();
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -100,6 +106,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         indicateModified();
     }
 
+    /**
+     * Replaces the {@code count} persons starting at {@code fromIndex} with {@code replacements}.
+     * The resulting address book must not contain duplicate persons.
+     */
+    protected void replacePersons(int fromIndex, int count, List<Person> replacements) {
+        persons.replaceRange(fromIndex, count, replacements);
+        indicateModified();
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons of an address book at one point in time.
+ * Taking a snapshot only copies the references to the persons, which are immutable themselves, so a snapshot is cheap
+ * to take and safe to read from any thread. A snapshot of a {@link PersistentList} does not even copy the references,
+ * and takes constant time.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of the persons in {@code addressBook} as they are now.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+    }
+
+    /**
+     * Creates a snapshot of {@code persons}, which are never changed as they are persistent.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = new PersistentObservableList(persons);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen for
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen for
+    }
+
+    /**
+     * An unmodifiable {@code ObservableList} view of a {@code PersistentList}, which never fires any change.
+     */
+    private static class PersistentObservableList extends ObservableListBase<Person> {
+        private final PersistentList<Person> persons;
+
+        PersistentObservableList(PersistentList<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        /**
+         * Walks the tree in order, which is faster than looking up each index in turn.
+         */
+        @Override
+        public Iterator<Person> iterator() {
+            return persons.iterator();
+        }
+    }
+}
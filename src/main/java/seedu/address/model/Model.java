@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.RankedPredicate;
 
 /**
  * The API of the Model component.
@@ -53,6 +55,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as it is now, which is safe to read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -67,13 +74,22 @@ public interface Model {
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filtered person list keeps its filter, so {@code person} is only shown if it satisfies the filter.
      */
     void addPerson(Person person);
 
+    /**
+     * Appends {@code persons} to the address book as part of the data it was loaded with, so that they cannot be
+     * undone. The persons must not already exist in the address book.
+     * This is only allowed before the first address book state is committed, while there are no uncommitted changes.
+     */
+    void loadPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The filtered person list keeps its filter, and only {@code editedPerson} is tested against it.
      */
     void setPerson(Person target, Person editedPerson);
 
@@ -82,10 +98,26 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The persons are shown in address book order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only the {@code limit} persons that best match the given
+     * {@code predicate}, best match first.
+     * Persons added or edited later are shown in order of how well they match if they satisfy {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void rankFilteredPersonList(RankedPredicate predicate, int limit);
+
+    /**
+     * Returns at most {@code limit} distinct words of the person names in the address book that start with
+     * {@code prefix}, ignoring case. The words are case-folded and in lexicographic order.
+     */
+    List<String> suggestNameWords(String prefix, int limit);
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -98,6 +130,9 @@ public interface Model {
 
     /**
      * Restores the model's address book to its previous state.
+     *
+     * @throws seedu.address.model.VersionedAddressBook.NoUndoableStateException if there is no previous state,
+     *     or if it was moved out of memory and could not be read back.
      */
     void undoAddressBook();
 
@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,10 +18,16 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.ParallelScan;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.RankedPredicate;
+import seedu.address.model.search.TopMatches;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,8 +36,12 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedAddressBook versionedAddressBook;
+    /** The search indexes over the persons of the address book, which follow every change to them. */
+    private final PersonSearchIndex searchIndex;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /** The filtered persons in the order they are shown, which is address book order unless they are ranked. */
+    private final SortedList<Person> sortedPersons;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
 
     /**
@@ -38,10 +53,13 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getMaxUndoStatesInMemory(),
+                userPrefs.getMaxUndoPersonsInMemory());
+        searchIndex = new PersonSearchIndex(versionedAddressBook.getPersonList());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
-        filteredPersons.addListener(this::ensureSelectedPersonIsValid);
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedPersons.addListener(this::ensureSelectedPersonIsValid);
     }
 
     public ModelManager() {
@@ -95,6 +113,11 @@ public class ModelManager implements Model {
         return versionedAddressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return versionedAddressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -109,7 +132,12 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void loadPersons(List<Person> persons) {
+        requireNonNull(persons);
+        versionedAddressBook.appendToInitialState(persons);
     }
 
     @Override
@@ -127,13 +155,59 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+        ObservableList<Person> persons = versionedAddressBook.getPersonList();
+        Set<Person> matches;
+        if (predicate instanceof IndexedPredicate) {
+            matches = ((IndexedPredicate) predicate).findMatches(searchIndex);
+        } else if (predicate != PREDICATE_SHOW_ALL_PERSONS && persons.size() >= ParallelScan.PARALLEL_THRESHOLD) {
+            matches = ParallelScan.findMatches(persons, predicate);
+        } else {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        PrecomputedFilter filter = new PrecomputedFilter(predicate, matches);
+        filteredPersons.setPredicate(filter);
+        // Persons tested from now on have been added after the matches were found, so the matches know nothing
+        // about them.
+        filter.discardMatches();
+    }
+
+    @Override
+    public void rankFilteredPersonList(RankedPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        List<Person> bestMatches = TopMatches.find(searchIndex, predicate, limit);
+
+        PrecomputedFilter filter = new PrecomputedFilter(predicate, bestMatches);
+        filteredPersons.setPredicate(filter);
+        // only the best matches are sorted, since the filter has already dropped every other person
+        sortedPersons.setComparator(TopMatches.bestFirst(predicate));
+        filter.discardMatches();
+    }
+
+    /**
+     * Filters and sorts the persons of this model the same way as {@code other}, which holds the same persons.
+     * A person added to this model later is tested against the same query as it would be in {@code other}.
+     */
+    public void setFilteredPersonListState(ModelManager other) {
+        requireNonNull(other);
+        Predicate<? super Person> predicate = other.filteredPersons.getPredicate();
+        if (predicate == null) {
+            filteredPersons.setPredicate(null);
+        } else {
+            // the query alone does not tell which persons other shows, e.g. only the best matches of a ranked query
+            PrecomputedFilter filter = new PrecomputedFilter(predicate, other.filteredPersons);
+            filteredPersons.setPredicate(filter);
+            filter.discardMatches();
+        }
+        sortedPersons.setComparator(other.sortedPersons.getComparator());
     }
 
     //=========== Undo/Redo =================================================================================
@@ -177,14 +251,14 @@ public class ModelManager implements Model {
 
     @Override
     public void setSelectedPerson(Person person) {
-        if (person != null && !filteredPersons.contains(person)) {
+        if (person != null && !sortedPersons.contains(person)) {
             throw new PersonNotFoundException();
         }
         selectedPerson.setValue(person);
     }
 
     /**
-     * Ensures {@code selectedPerson} is a valid person in {@code filteredPersons}.
+     * Ensures {@code selectedPerson} is a valid person in the shown persons.
      */
     private void ensureSelectedPersonIsValid(ListChangeListener.Change<? extends Person> change) {
         while (change.next()) {
@@ -212,6 +286,40 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public List<String> suggestNameWords(String prefix, int limit) {
+        requireNonNull(prefix);
+        return searchIndex.getNameTokenIndex().suggestWords(prefix, limit);
+    }
+
+    /**
+     * A predicate that answers from a set of persons found beforehand, either from an index or by a parallel scan,
+     * until the matches are discarded, and from the original predicate thereafter.
+     *
+     * The matches are the very persons of the address book, so they are kept in a set that compares them by identity.
+     * Every person of the address book is tested against the set when the predicate is set, and an identity hash
+     * costs far less than {@code Person#hashCode()}, which hashes every field.
+     */
+    private static class PrecomputedFilter implements Predicate<Person> {
+        private final Predicate<? super Person> predicate;
+        private Set<Person> matches;
+
+        PrecomputedFilter(Predicate<? super Person> predicate, Collection<Person> matches) {
+            this.predicate = predicate;
+            this.matches = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+            this.matches.addAll(matches);
+        }
+
+        void discardMatches() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches != null ? matches.contains(person) : predicate.test(person);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -228,7 +336,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons)
+                && sortedPersons.equals(other.sortedPersons)
                 && Objects.equals(selectedPerson.get(), other.selectedPerson.get());
     }
 
@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A replacement of the persons {@code removed}, starting at {@code fromIndex} of a person list,
+ * with the persons {@code added}.
+ * Guarantees: immutable.
+ */
+class PersonListEdit {
+    final int fromIndex;
+    final List<Person> removed;
+    final List<Person> added;
+
+    PersonListEdit(int fromIndex, List<? extends Person> removed, List<? extends Person> added) {
+        this.fromIndex = fromIndex;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the edit that undoes this edit.
+     */
+    PersonListEdit inverse() {
+        return new PersonListEdit(fromIndex, added, removed);
+    }
+
+    /**
+     * Returns {@code persons} with this edit applied.
+     */
+    PersistentList<Person> applyTo(PersistentList<Person> persons) {
+        int replacedSize = Math.min(removed.size(), added.size());
+        for (int i = 0; i < replacedSize; i++) {
+            persons = persons.set(fromIndex + i, added.get(i));
+        }
+        for (int i = replacedSize; i < removed.size(); i++) {
+            persons = persons.remove(fromIndex + replacedSize);
+        }
+        for (int i = replacedSize; i < added.size(); i++) {
+            persons = persons.add(fromIndex + i, added.get(i));
+        }
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonListEdit)) {
+            return false;
+        }
+
+        PersonListEdit otherEdit = (PersonListEdit) other;
+        return fromIndex == otherEdit.fromIndex
+                && removed.equals(otherEdit.removed)
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromIndex, removed, added);
+    }
+}
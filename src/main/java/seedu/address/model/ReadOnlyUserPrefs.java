@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookStorageFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookStorageFormat getAddressBookStorageFormat();
+
+    int getAddressBookCompressionLevel();
+
+    int getMaxUndoStatesInMemory();
+
+    int getMaxUndoPersonsInMemory();
+
 }
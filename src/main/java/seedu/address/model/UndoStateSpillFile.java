@@ -0,0 +1,206 @@
+package seedu.address.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A temporary file that holds undo states of a {@code VersionedAddressBook} which have been moved out of memory.
+ * States are appended as length-prefixed binary records, and are read back by the offset returned when writing them.
+ * Each record is deflated on its own, at the fastest level, since states are only spilled while commands run.
+ * Records are never freed one by one; the file is emptied with {@link #clear()} once no state is left in it.
+ * The file is deleted when the JVM exits.
+ */
+class UndoStateSpillFile {
+
+    private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+    private final Path filePath;
+
+    private UndoStateSpillFile(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Creates an empty spill file in the default temporary-file directory.
+     */
+    static UndoStateSpillFile create() throws IOException {
+        Path filePath = Files.createTempFile("addressbook-undo", ".tmp");
+        filePath.toFile().deleteOnExit();
+        return new UndoStateSpillFile(filePath);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends {@code state} to the file and returns the offset to read it back from.
+     */
+    long write(SpilledState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(COMPRESSION_LEVEL);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new DeflaterOutputStream(bytes, deflater)))) {
+            writeState(out, state);
+        } finally {
+            deflater.end();
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            long offset = file.length();
+            file.seek(offset);
+            file.writeInt(bytes.size());
+            file.write(bytes.toByteArray());
+            return offset;
+        }
+    }
+
+    /**
+     * Removes every state from the file. Offsets returned before are no longer valid.
+     */
+    void clear() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.setLength(0);
+        }
+    }
+
+    /**
+     * Reads back the state written at {@code offset}.
+     */
+    SpilledState read(long offset) throws IOException {
+        byte[] bytes;
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "r")) {
+            file.seek(offset);
+            bytes = new byte[file.readInt()];
+            file.readFully(bytes);
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(bytes))))) {
+            return readState(in);
+        } catch (IllegalArgumentException iae) {
+            throw new IOException("Corrupted undo state at offset " + offset, iae);
+        }
+    }
+
+    //// encoding
+
+    private static void writeState(DataOutput out, SpilledState state) throws IOException {
+        out.writeBoolean(state.isReplacement);
+        out.writeInt(state.editsFromPreviousState.size());
+        for (PersonListEdit edit : state.editsFromPreviousState) {
+            out.writeInt(edit.fromIndex);
+            writePersons(out, edit.removed);
+            writePersons(out, edit.added);
+        }
+        out.writeBoolean(state.persons != null);
+        if (state.persons != null) {
+            writePersons(out, state.persons);
+        }
+    }
+
+    private static SpilledState readState(DataInput in) throws IOException {
+        boolean isReplacement = in.readBoolean();
+        int editCount = in.readInt();
+        List<PersonListEdit> edits = new ArrayList<>(editCount);
+        for (int i = 0; i < editCount; i++) {
+            edits.add(new PersonListEdit(in.readInt(), readPersons(in), readPersons(in)));
+        }
+        List<Person> persons = in.readBoolean() ? readPersons(in) : null;
+        return new SpilledState(edits, isReplacement, persons);
+    }
+
+    private static void writePersons(DataOutput out, List<Person> persons) throws IOException {
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            out.writeUTF(person.getName().fullName);
+            out.writeUTF(person.getPhone().value);
+            out.writeUTF(person.getEmail().value);
+            out.writeUTF(person.getAddress().value);
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeUTF(tag.tagName);
+            }
+        }
+    }
+
+    private static List<Person> readPersons(DataInput in) throws IOException {
+        int personCount = in.readInt();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = new Name(in.readUTF());
+            Phone phone = new Phone(in.readUTF());
+            Email email = new Email(in.readUTF());
+            Address address = new Address(in.readUTF());
+            int tagCount = in.readInt();
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new Tag(in.readUTF()));
+            }
+            persons.add(new Person(name, phone, email, address, tags));
+        }
+        return persons;
+    }
+
+    /**
+     * The data of an undo state that is needed to page it back into memory.
+     */
+    static class SpilledState {
+        final List<PersonListEdit> editsFromPreviousState;
+        final boolean isReplacement;
+        /** The persons of the state, or null if they can be derived from the next state instead. */
+        final List<Person> persons;
+
+        SpilledState(List<PersonListEdit> editsFromPreviousState, boolean isReplacement, List<Person> persons) {
+            this.editsFromPreviousState = editsFromPreviousState;
+            this.isReplacement = isReplacement;
+            this.persons = persons;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof SpilledState)) {
+                return false;
+            }
+
+            SpilledState otherState = (SpilledState) other;
+            return editsFromPreviousState.equals(otherState.editsFromPreviousState)
+                    && isReplacement == otherState.isReplacement
+                    && Objects.equals(persons, otherState.persons);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(editsFromPreviousState, isReplacement, persons);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.zip.Deflater;
 
+import seedu.address.commons.core.AddressBookStorageFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,8 +16,19 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_MAX_UNDO_STATES_CONSTRAINTS = "At least 2 undo states must be kept in memory.";
+    public static final String MESSAGE_MAX_UNDO_PERSONS_CONSTRAINTS =
+            "The number of persons kept in memory by undo states cannot be negative.";
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS =
+            "The compression level must be from " + Deflater.NO_COMPRESSION + " to " + Deflater.BEST_COMPRESSION + ".";
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookStorageFormat addressBookStorageFormat = AddressBookStorageFormat.JSON;
+    private int addressBookCompressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private int maxUndoStatesInMemory = VersionedAddressBook.DEFAULT_MAX_STATES_IN_MEMORY;
+    private int maxUndoPersonsInMemory = VersionedAddressBook.DEFAULT_MAX_PERSONS_IN_MEMORY;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +50,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        setAddressBookCompressionLevel(newUserPrefs.getAddressBookCompressionLevel());
+        setMaxUndoStatesInMemory(newUserPrefs.getMaxUndoStatesInMemory());
+        setMaxUndoPersonsInMemory(newUserPrefs.getMaxUndoPersonsInMemory());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +74,55 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookStorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(AddressBookStorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    /**
+     * Sets the level that the address book is compressed at, if its storage format is compressed.
+     * {@code addressBookCompressionLevel} must be from 0 (fastest) to 9 (smallest).
+     */
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        checkArgument(addressBookCompressionLevel >= Deflater.NO_COMPRESSION
+                && addressBookCompressionLevel <= Deflater.BEST_COMPRESSION, MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
+    public int getMaxUndoStatesInMemory() {
+        return maxUndoStatesInMemory;
+    }
+
+    /**
+     * Sets the number of undo states that are kept in memory before older states are moved to disk.
+     * {@code maxUndoStatesInMemory} must be at least 2.
+     */
+    public void setMaxUndoStatesInMemory(int maxUndoStatesInMemory) {
+        checkArgument(maxUndoStatesInMemory >= 2, MESSAGE_MAX_UNDO_STATES_CONSTRAINTS);
+        this.maxUndoStatesInMemory = maxUndoStatesInMemory;
+    }
+
+    public int getMaxUndoPersonsInMemory() {
+        return maxUndoPersonsInMemory;
+    }
+
+    /**
+     * Sets the number of persons that undo states may hold in memory before older states are moved to disk.
+     * {@code maxUndoPersonsInMemory} must not be negative.
+     */
+    public void setMaxUndoPersonsInMemory(int maxUndoPersonsInMemory) {
+        checkArgument(maxUndoPersonsInMemory >= 0, MESSAGE_MAX_UNDO_PERSONS_CONSTRAINTS);
+        this.maxUndoPersonsInMemory = maxUndoPersonsInMemory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +135,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookStorageFormat == o.addressBookStorageFormat
+                && addressBookCompressionLevel == o.addressBookCompressionLevel
+                && maxUndoStatesInMemory == o.maxUndoStatesInMemory
+                && maxUndoPersonsInMemory == o.maxUndoPersonsInMemory;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, addressBookCompressionLevel,
+                maxUndoStatesInMemory, maxUndoPersonsInMemory);
     }
 
     @Override
@@ -81,6 +153,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nLocal data file compression level : " + addressBookCompressionLevel);
+        sb.append("\nUndo states kept in memory : " + maxUndoStatesInMemory);
+        sb.append("\nPersons in undo states kept in memory : " + maxUndoPersonsInMemory);
         return sb.toString();
     }
 
@@ -1,48 +1,150 @@
 package seedu.address.model;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.UndoStateSpillFile.SpilledState;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ *
+ * Each saved state is a {@link PersistentList} snapshot of the person list. The snapshot of the current state is
+ * updated in O(log n) time on every change to the person list, and shares all unchanged structure with the snapshots
+ * of previous states, so a commit takes constant time and only the changed paths are kept in memory.
+ *
+ * Each saved state also records the edits that led to it from the previous state. Undo and redo replay those edits
+ * (or their inverses) on the person list, so that undoing a single change only touches the affected positions.
+ *
+ * At most {@code maxStatesInMemory} states, holding at most {@code maxPersonsInMemory} persons between them, are kept
+ * in memory. A state holds all of its persons if it replaced the person list, or else the persons removed and added by
+ * its edits, as it shares the rest with the states around it. Older states are moved to an {@link UndoStateSpillFile}
+ * and paged back in, one at a time, when they are undone to. A state that is paged back in remembers where it was
+ * written, so that moving it out again does not write another copy of it.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    public static final int DEFAULT_MAX_STATES_IN_MEMORY = 100;
+    public static final int DEFAULT_MAX_PERSONS_IN_MEMORY = 1_000_000;
+
+    private static final long NOT_SPILLED = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
+    /** The states that are in memory. The first of them is preceded by the spilled states. */
+    private final List<AddressBookState> addressBookStateList;
+    /** The offsets in {@code spillFile} of the oldest states, which are not in memory. */
+    private final List<Long> spilledStateOffsets = new ArrayList<>();
+    private final int maxStatesInMemory;
+    private final int maxPersonsInMemory;
+    private UndoStateSpillFile spillFile;
     private int currentStatePointer;
 
+    private PersistentList<Person> currentPersons;
+    private final List<PersonListEdit> uncommittedEdits = new ArrayList<>();
+    private boolean hasUncommittedReplacement;
+    private boolean isRestoringState;
+
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_MAX_STATES_IN_MEMORY);
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxStatesInMemory) {
+        this(initialState, maxStatesInMemory, DEFAULT_MAX_PERSONS_IN_MEMORY);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} that keeps at most {@code maxStatesInMemory} states, holding at most
+     * {@code maxPersonsInMemory} persons, in memory. The current state is kept in memory regardless of its size.
+     * As a state on disk is paged back in from the state after it, values of {@code maxStatesInMemory} below 2 are
+     * treated as 2.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxStatesInMemory, int maxPersonsInMemory) {
         super(initialState);
+        this.maxStatesInMemory = Math.max(maxStatesInMemory, 2);
+        this.maxPersonsInMemory = maxPersonsInMemory;
+
+        currentPersons = PersistentList.of(getPersonList());
+        getPersonList().addListener(this::recordChange);
 
         addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        addressBookStateList.add(new AddressBookState(currentPersons, Collections.emptyList(), true));
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves a snapshot of the current {@code AddressBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        addressBookStateList.add(new AddressBookState(currentPersons, uncommittedEdits, hasUncommittedReplacement));
         currentStatePointer++;
+        clearUncommittedEdits();
+        spillStatesOverLimit();
         indicateModified();
     }
 
+    /**
+     * Appends {@code persons} to the address book as part of its initial state, so that they cannot be undone.
+     * This is only allowed before the first commit, while there are no uncommitted changes.
+     *
+     * @throws IllegalStateException if the address book has been committed or has uncommitted changes.
+     */
+    public void appendToInitialState(List<Person> persons) {
+        if (spilledStateOffsets.size() + addressBookStateList.size() > 1 || hasUncommittedChanges()) {
+            throw new IllegalStateException("Persons can only be appended to the initial state before it changes.");
+        }
+
+        replacePersons(getPersonList().size(), 0, persons);
+        addressBookStateList.set(0, new AddressBookState(currentPersons, Collections.emptyList(), true));
+        clearUncommittedEdits();
+    }
+
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        addressBookStateList.subList(currentStatePointer + 1 - spilledStateOffsets.size(),
+                addressBookStateList.size()).clear();
     }
 
     /**
      * Restores the address book to its previous state.
+     *
+     * @throws NoUndoableStateException if there is no previous state, or if it could not be read back from disk.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        if (currentStatePointer - 1 < spilledStateOffsets.size()) {
+            pageInNewestSpilledState();
+        }
+        AddressBookState undoneState = getState(currentStatePointer);
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        AddressBookState restoredState = getState(currentStatePointer);
+
+        isRestoringState = true;
+        try {
+            if (hasUncommittedChanges() || undoneState.isReplacement) {
+                setPersons(restoredState.persons.toList());
+            } else {
+                List<PersonListEdit> edits = undoneState.editsFromPreviousState;
+                for (int i = edits.size() - 1; i >= 0; i--) {
+                    PersonListEdit inverse = edits.get(i).inverse();
+                    replacePersons(inverse.fromIndex, inverse.removed.size(), inverse.added);
+                }
+            }
+        } finally {
+            isRestoringState = false;
+        }
+        currentPersons = restoredState.persons;
+        clearUncommittedEdits();
     }
 
     /**
@@ -53,7 +155,22 @@ public class VersionedAddressBook extends AddressBook {
             throw new NoRedoableStateException();
         }
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        AddressBookState restoredState = getState(currentStatePointer);
+
+        isRestoringState = true;
+        try {
+            if (hasUncommittedChanges() || restoredState.isReplacement) {
+                setPersons(restoredState.persons.toList());
+            } else {
+                for (PersonListEdit edit : restoredState.editsFromPreviousState) {
+                    replacePersons(edit.fromIndex, edit.removed.size(), edit.added);
+                }
+            }
+        } finally {
+            isRestoringState = false;
+        }
+        currentPersons = restoredState.persons;
+        clearUncommittedEdits();
     }
 
     /**
@@ -67,9 +184,159 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < spilledStateOffsets.size() + addressBookStateList.size() - 1;
+    }
+
+    /**
+     * Returns a snapshot of the persons as they are now, in constant time.
+     * The snapshot of the current state is kept up to date on every change, so it is shared rather than copied.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return new AddressBookSnapshot(currentPersons);
+    }
+
+    /**
+     * Returns the file that the oldest states are moved to once there are too many to keep in memory,
+     * if any state has been moved yet.
+     */
+    public Optional<Path> getSpillFilePath() {
+        return Optional.ofNullable(spillFile).map(UndoStateSpillFile::getFilePath);
+    }
+
+    /**
+     * Returns the state at {@code index} of the whole state list, which must be in memory.
+     */
+    private AddressBookState getState(int index) {
+        return addressBookStateList.get(index - spilledStateOffsets.size());
+    }
+
+    /**
+     * Moves the oldest states out of memory until at most {@code maxStatesInMemory} states, holding at most
+     * {@code maxPersonsInMemory} persons, are left in memory. The current state is always kept in memory.
+     * A state that was paged in is not written again if its record on disk can still be used.
+     * If a state cannot be written to disk, it is kept in memory instead.
+     */
+    private void spillStatesOverLimit() {
+        long personsInMemory = 0;
+        for (AddressBookState state : addressBookStateList) {
+            personsInMemory += state.personsHeld;
+        }
+
+        while ((addressBookStateList.size() > maxStatesInMemory || personsInMemory > maxPersonsInMemory)
+                && spilledStateOffsets.size() < currentStatePointer) {
+            AddressBookState oldestState = addressBookStateList.get(0);
+            AddressBookState nextState = addressBookStateList.get(1);
+            try {
+                long offset;
+                // The persons of a state can be derived from the next state, unless the next state replaced them all.
+                if (oldestState.spillFileOffset != NOT_SPILLED
+                        && (oldestState.isSpilledWithPersons || !nextState.isReplacement)) {
+                    offset = oldestState.spillFileOffset;
+                } else {
+                    if (spillFile == null) {
+                        spillFile = UndoStateSpillFile.create();
+                    }
+                    List<Person> persons = nextState.isReplacement ? oldestState.persons.toList() : null;
+                    offset = spillFile.write(
+                            new SpilledState(oldestState.editsFromPreviousState, oldestState.isReplacement, persons));
+                }
+                spilledStateOffsets.add(offset);
+                addressBookStateList.remove(0);
+                personsInMemory -= oldestState.personsHeld;
+            } catch (IOException ioe) {
+                logger.warning("Unable to move undo state to disk, keeping it in memory: " + ioe);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the newest spilled state back into memory, and empties the spill file once no spilled state is left.
+     * If it cannot be read, all spilled states are discarded and {@code NoUndoableStateException} is thrown.
+     */
+    private void pageInNewestSpilledState() {
+        int newestSpilledIndex = spilledStateOffsets.size() - 1;
+        SpilledState spilledState;
+        try {
+            spilledState = spillFile.read(spilledStateOffsets.get(newestSpilledIndex));
+        } catch (IOException ioe) {
+            logger.warning("Unable to read undo state from disk, discarding older undo states: " + ioe);
+            currentStatePointer -= spilledStateOffsets.size();
+            spilledStateOffsets.clear();
+            clearSpillFile();
+            throw new NoUndoableStateException();
+        }
+
+        PersistentList<Person> persons = spilledState.persons != null
+                ? PersistentList.of(spilledState.persons)
+                : addressBookStateList.get(0).getPreviousPersons();
+        AddressBookState pagedInState = new AddressBookState(
+                persons, spilledState.editsFromPreviousState, spilledState.isReplacement);
+        pagedInState.spillFileOffset = spilledStateOffsets.remove(newestSpilledIndex);
+        pagedInState.isSpilledWithPersons = spilledState.persons != null;
+        addressBookStateList.add(0, pagedInState);
+        if (spilledStateOffsets.isEmpty()) {
+            clearSpillFile();
+        }
+    }
+
+    /**
+     * Empties the spill file, which must hold no spilled state, so that records of states that were paged in do not
+     * pile up in it.
+     */
+    private void clearSpillFile() {
+        for (AddressBookState state : addressBookStateList) {
+            state.spillFileOffset = NOT_SPILLED;
+        }
+        try {
+            spillFile.clear();
+        } catch (IOException ioe) {
+            logger.warning("Unable to empty the undo state file: " + ioe);
+        }
+    }
+
+    private boolean hasUncommittedChanges() {
+        return hasUncommittedReplacement || !uncommittedEdits.isEmpty();
     }
 
+    private void clearUncommittedEdits() {
+        uncommittedEdits.clear();
+        hasUncommittedReplacement = false;
+    }
+
+    /**
+     * Records {@code change} as an uncommitted edit and applies it to the snapshot of the current state.
+     * Changes made while restoring a saved state are not recorded, as that state's snapshot is restored directly.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        if (isRestoringState) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()
+                    || change.getRemovedSize() == currentPersons.size()) {
+                // Rebuilding from the final list is as fast as patching a permutation or a full replacement,
+                // and undoing it is done by restoring the previous snapshot rather than replaying edits.
+                currentPersons = PersistentList.of(change.getList());
+                hasUncommittedReplacement = true;
+                uncommittedEdits.clear();
+                return;
+            }
+
+            PersonListEdit edit = new PersonListEdit(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+            if (!hasUncommittedReplacement) {
+                uncommittedEdits.add(edit);
+            }
+            currentPersons = edit.applyTo(currentPersons);
+        }
+    }
+
+    /**
+     * Returns true if {@code other} has the same persons and the same states.
+     * States that were moved out of memory are read back from disk to be compared, so this is meant for tests only.
+     * If they cannot be read back, the address books are not equal.
+     */
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -87,7 +354,88 @@ public class VersionedAddressBook extends AddressBook {
         // state check
         return super.equals(otherVersionedAddressBook)
                 && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && currentStatePointer == otherVersionedAddressBook.currentStatePointer
+                && spilledStateOffsets.size() == otherVersionedAddressBook.spilledStateOffsets.size()
+                && hasSameSpilledStates(otherVersionedAddressBook);
+    }
+
+    private boolean hasSameSpilledStates(VersionedAddressBook other) {
+        if (spilledStateOffsets.isEmpty()) {
+            return true;
+        }
+        List<SpilledState> spilledStates = readSpilledStates();
+        return spilledStates != null && spilledStates.equals(other.readSpilledStates());
+    }
+
+    /**
+     * Returns the spilled states, or null if they cannot be read.
+     */
+    private List<SpilledState> readSpilledStates() {
+        List<SpilledState> spilledStates = new ArrayList<>();
+        try {
+            for (long offset : spilledStateOffsets) {
+                spilledStates.add(spillFile.read(offset));
+            }
+        } catch (IOException ioe) {
+            return null;
+        }
+        return spilledStates;
+    }
+
+    /**
+     * A saved state of the address book.
+     */
+    private static class AddressBookState {
+        private final PersistentList<Person> persons;
+        private final List<PersonListEdit> editsFromPreviousState;
+        /** True if this state cannot be reached from the previous state by replaying edits. */
+        private final boolean isReplacement;
+        /** The number of persons that this state holds in memory, which are not shared with the previous state. */
+        private final int personsHeld;
+        /** The offset of this state's record in the spill file if it was paged in from there, or NOT_SPILLED. */
+        private long spillFileOffset = NOT_SPILLED;
+        /** True if the record at {@code spillFileOffset} holds the persons of this state. */
+        private boolean isSpilledWithPersons;
+
+        AddressBookState(PersistentList<Person> persons, List<PersonListEdit> editsFromPreviousState,
+                boolean isReplacement) {
+            this.persons = persons;
+            this.editsFromPreviousState = isReplacement
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(new ArrayList<>(editsFromPreviousState));
+            this.isReplacement = isReplacement;
+
+            int personsHeld = isReplacement ? persons.size() : 0;
+            for (PersonListEdit edit : this.editsFromPreviousState) {
+                personsHeld += edit.removed.size() + edit.added.size();
+            }
+            this.personsHeld = Math.max(personsHeld, 1);
+        }
+
+        /**
+         * Returns the persons of the previous state, derived by undoing the edits from that state.
+         * This state must not be a replacement.
+         */
+        PersistentList<Person> getPreviousPersons() {
+            assert !isReplacement;
+            PersistentList<Person> previousPersons = persons;
+            for (int i = editsFromPreviousState.size() - 1; i >= 0; i--) {
+                previousPersons = editsFromPreviousState.get(i).inverse().applyTo(previousPersons);
+            }
+            return previousPersons;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AddressBookState // instanceof handles nulls
+                    && persons.equals(((AddressBookState) other).persons));
+        }
+
+        @Override
+        public int hashCode() {
+            return persons.hashCode();
+        }
     }
 
     /**
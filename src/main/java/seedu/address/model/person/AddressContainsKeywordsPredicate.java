@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.RankedPredicate;
+
+/**
+ * Tests that a {@code Person}'s {@code Address} contains any of the keywords given as a whole word.
+ * Keyword matching is case insensitive. A person scores for every keyword matched.
+ */
+public class AddressContainsKeywordsPredicate implements RankedPredicate {
+    /** The weight of an address match. */
+    public static final int FIELD_WEIGHT = 1;
+
+    private final List<String> keywords;
+
+    public AddressContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+    }
+
+    @Override
+    public int score(Person person) {
+        int matchedKeywordCount = (int) keywords.stream()
+                .filter(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword))
+                .count();
+        return matchedKeywordCount * EXACT_MATCH_SCORE * FIELD_WEIGHT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((AddressContainsKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static seedu.address.model.search.PersonSearchIndex.foldEmail;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} is any of the emails given, ignoring case.
+ */
+public class EmailMatchesPredicate implements IndexedPredicate {
+    private final List<String> emails;
+    /** The emails, case-folded once so that testing a person only folds its own email. */
+    private final Set<String> foldedEmails;
+
+    public EmailMatchesPredicate(List<String> emails) {
+        this.emails = emails;
+        foldedEmails = emails.stream().map(PersonSearchIndex::foldEmail).collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return foldedEmails.contains(foldEmail(person.getEmail().value));
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex searchIndex) {
+        Set<Person> matches = new HashSet<>();
+        for (String foldedEmail : foldedEmails) {
+            matches.addAll(searchIndex.getEmailIndex().lookUp(foldedEmail));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatchCount(PersonSearchIndex searchIndex) {
+        return foldedEmails.stream().mapToInt(searchIndex.getEmailIndex()::count).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EmailMatchesPredicate // instanceof handles nulls
+                && emails.equals(((EmailMatchesPredicate) other).emails)); // state check
+    }
+
+}
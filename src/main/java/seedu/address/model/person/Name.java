@@ -3,6 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +27,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The words of {@code fullName}, case-folded with {@link #foldWord(String)}. */
+    private final List<String> foldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +39,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedWords = Collections.unmodifiableList(Arrays.asList(name.toLowerCase(Locale.ROOT).split("\\s+")));
     }
 
     /**
@@ -38,6 +49,58 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code word} without surrounding whitespace and in the case that names are compared in.
+     */
+    public static String foldWord(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns an unmodifiable view of the case-folded words of this name.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
+    /**
+     * Returns true if this name contains {@code foldedWord} as a full word.
+     * {@code foldedWord} must already be case-folded with {@link #foldWord(String)}.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (foldedWords.get(i).equals(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this name contains a word within {@code maxDistance} edits of {@code foldedWord}.
+     * {@code foldedWord} must already be case-folded with {@link #foldWord(String)}.
+     */
+    public boolean containsFoldedWordWithin(String foldedWord, int maxDistance) {
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (StringUtil.editDistance(foldedWords.get(i), foldedWord) <= maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this name contains a word that starts with {@code foldedPrefix}.
+     * {@code foldedPrefix} must already be case-folded with {@link #foldWord(String)}.
+     */
+    public boolean containsFoldedWordStartingWith(String foldedPrefix) {
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (foldedWords.get(i).startsWith(foldedPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public String toString() {
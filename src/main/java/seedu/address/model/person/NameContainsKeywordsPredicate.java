@@ -1,24 +1,138 @@
 package seedu.address.model.person;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.NameTokenIndex;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.RankedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword that ends with {@link #PREFIX_WILDCARD} matches any word that starts with the rest of the keyword.
+ * A keyword that ends with {@link #FUZZY_SUFFIX} matches any word within a few edits of the rest of the keyword,
+ * see {@link #getMaxEditDistance(String)}.
+ * A person scores for every keyword matched, more for a whole word than for a prefix, and the least for a fuzzy match.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate, RankedPredicate {
+    public static final String PREFIX_WILDCARD = "*";
+    public static final String FUZZY_SUFFIX = "~";
+    /** The weight of a name match, which says more about who a person is than an address match does. */
+    public static final int FIELD_WEIGHT = 2;
+
     private final List<String> keywords;
+    /** The whole-word keywords, case-folded once so that testing a person does not fold them again. */
+    private final String[] foldedWords;
+    /** The prefix keywords without their wildcards, case-folded once. */
+    private final String[] foldedPrefixes;
+    /** The fuzzy keywords without their suffixes, case-folded once. */
+    private final String[] foldedFuzzyWords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedWords = keywords.stream()
+                .map(Name::foldWord)
+                .filter(keyword -> !keyword.endsWith(PREFIX_WILDCARD) && !keyword.endsWith(FUZZY_SUFFIX))
+                .toArray(String[]::new);
+        foldedPrefixes = foldKeywordsEndingWith(keywords, PREFIX_WILDCARD);
+        foldedFuzzyWords = foldKeywordsEndingWith(keywords, FUZZY_SUFFIX);
+    }
+
+    /**
+     * Returns the keywords that end with {@code suffix}, case-folded and without the suffix.
+     */
+    private static String[] foldKeywordsEndingWith(List<String> keywords, String suffix) {
+        return keywords.stream()
+                .map(Name::foldWord)
+                .filter(keyword -> keyword.endsWith(suffix))
+                .map(keyword -> keyword.substring(0, keyword.length() - suffix.length()))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns the number of edits that a word may be away from the fuzzy keyword {@code foldedFuzzyWord} to match it.
+     * Longer keywords tolerate more typos: none for up to 2 characters, one for up to 5 characters and two otherwise.
+     */
+    public static int getMaxEditDistance(String foldedFuzzyWord) {
+        int length = foldedFuzzyWord.length();
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Name name = person.getName();
+        for (String foldedWord : foldedWords) {
+            if (name.containsFoldedWord(foldedWord)) {
+                return true;
+            }
+        }
+        for (String foldedPrefix : foldedPrefixes) {
+            if (name.containsFoldedWordStartingWith(foldedPrefix)) {
+                return true;
+            }
+        }
+        for (String foldedFuzzyWord : foldedFuzzyWords) {
+            if (name.containsFoldedWordWithin(foldedFuzzyWord, getMaxEditDistance(foldedFuzzyWord))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int score(Person person) {
+        Name name = person.getName();
+        int score = 0;
+        for (String foldedWord : foldedWords) {
+            if (name.containsFoldedWord(foldedWord)) {
+                score += EXACT_MATCH_SCORE;
+            }
+        }
+        for (String foldedPrefix : foldedPrefixes) {
+            if (name.containsFoldedWord(foldedPrefix)) {
+                score += EXACT_MATCH_SCORE;
+            } else if (name.containsFoldedWordStartingWith(foldedPrefix)) {
+                score += PREFIX_MATCH_SCORE;
+            }
+        }
+        for (String foldedFuzzyWord : foldedFuzzyWords) {
+            if (name.containsFoldedWord(foldedFuzzyWord)) {
+                score += EXACT_MATCH_SCORE;
+            } else if (name.containsFoldedWordWithin(foldedFuzzyWord, getMaxEditDistance(foldedFuzzyWord))) {
+                score += FUZZY_MATCH_SCORE;
+            }
+        }
+        return score * FIELD_WEIGHT;
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex searchIndex) {
+        NameTokenIndex nameTokenIndex = searchIndex.getNameTokenIndex();
+        Set<Person> matches = new LinkedHashSet<>();
+        for (String foldedWord : foldedWords) {
+            matches.addAll(nameTokenIndex.lookUp(foldedWord));
+        }
+        for (String foldedPrefix : foldedPrefixes) {
+            matches.addAll(nameTokenIndex.lookUpPrefix(foldedPrefix));
+        }
+        for (String foldedFuzzyWord : foldedFuzzyWords) {
+            matches.addAll(nameTokenIndex.lookUpFuzzy(foldedFuzzyWord, getMaxEditDistance(foldedFuzzyWord)));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatchCount(PersonSearchIndex searchIndex) {
+        if (foldedPrefixes.length > 0 || foldedFuzzyWords.length > 0) {
+            return searchIndex.size();
+        }
+        int count = 0;
+        for (String foldedWord : foldedWords) {
+            count += searchIndex.getNameTokenIndex().lookUp(foldedWord).size();
+        }
+        return Math.min(count, searchIndex.size());
     }
 
     @Override
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} is exactly any of the phone numbers given.
+ */
+public class PhoneMatchesPredicate implements IndexedPredicate {
+    private final List<String> phones;
+
+    public PhoneMatchesPredicate(List<String> phones) {
+        this.phones = phones;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return phones.contains(person.getPhone().value);
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex searchIndex) {
+        Set<Person> matches = new HashSet<>();
+        for (String phone : phones) {
+            matches.addAll(searchIndex.getPhoneIndex().lookUp(phone));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatchCount(PersonSearchIndex searchIndex) {
+        return phones.stream().mapToInt(searchIndex.getPhoneIndex()::count).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneMatchesPredicate // instanceof handles nulls
+                && phones.equals(((PhoneMatchesPredicate) other).phones)); // state check
+    }
+
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.search.IndexedPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has at least one of the tags of every required group, and none of the excluded tags.
+ */
+public class TagsMatchPredicate implements IndexedPredicate {
+    private final List<Set<Tag>> requiredTagGroups;
+    private final Set<Tag> excludedTags;
+
+    public TagsMatchPredicate(List<Set<Tag>> requiredTagGroups, Set<Tag> excludedTags) {
+        this.requiredTagGroups = requiredTagGroups;
+        this.excludedTags = excludedTags;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        for (Set<Tag> tagGroup : requiredTagGroups) {
+            if (tagGroup.stream().noneMatch(tags::contains)) {
+                return false;
+            }
+        }
+        return excludedTags.stream().noneMatch(tags::contains);
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex searchIndex) {
+        List<Set<String>> requiredTagNameGroups = requiredTagGroups.stream()
+                .map(TagsMatchPredicate::toTagNames)
+                .collect(Collectors.toList());
+        return searchIndex.getTagIndex().select(requiredTagNameGroups, toTagNames(excludedTags));
+    }
+
+    @Override
+    public int estimateMatchCount(PersonSearchIndex searchIndex) {
+        int estimatedMatchCount = searchIndex.size();
+        for (Set<Tag> tagGroup : requiredTagGroups) {
+            int groupCount = tagGroup.stream()
+                    .mapToInt(tag -> searchIndex.getTagIndex().count(tag.tagName))
+                    .sum();
+            estimatedMatchCount = Math.min(estimatedMatchCount, groupCount);
+        }
+        return estimatedMatchCount;
+    }
+
+    private static Set<String> toTagNames(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagsMatchPredicate // instanceof handles nulls
+                && requiredTagGroups.equals(((TagsMatchPredicate) other).requiredTagGroups)
+                && excludedTags.equals(((TagsMatchPredicate) other).excludedTags)); // state check
+    }
+
+}
@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from two hash indexes, keyed on name+phone and name+email respectively, which mirror
+ * the two ways in which {@code Person#isSamePerson(Person)} can match. The indexes are kept in sync with every mutation
+ * of the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +35,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Person> personsByNameAndPhone = new HashMap<>();
+    private final Map<IdentityKey, Person> personsByNameAndEmail = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByNameAndPhone.containsKey(IdentityKey.ofNameAndPhone(toCheck))
+                || personsByNameAndEmail.containsKey(IdentityKey.ofNameAndEmail(toCheck));
     }
 
     /**
@@ -45,6 +56,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -61,10 +73,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existingPerson = internalList.get(index);
+        if (isIdentityTakenByOther(editedPerson, existingPerson)) {
             throw new DuplicatePersonException();
         }
 
+        removeFromIndex(existingPerson);
+        addToIndex(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +89,53 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces the {@code count} persons starting at {@code fromIndex} with {@code replacements}.
+     * The resulting list must not contain duplicate persons.
+     *
+     * @throws IndexOutOfBoundsException if the range to replace is out of bounds.
+     */
+    public void replaceRange(int fromIndex, int count, List<Person> replacements) {
+        requireAllNonNull(replacements);
+        List<Person> replaced = new ArrayList<>(internalList.subList(fromIndex, fromIndex + count));
+
+        replaced.forEach(this::removeFromIndex);
+        for (int i = 0; i < replacements.size(); i++) {
+            if (contains(replacements.get(i))) {
+                replacements.subList(0, i).forEach(this::removeFromIndex);
+                replaced.forEach(this::addToIndex);
+                throw new DuplicatePersonException();
+            }
+            addToIndex(replacements.get(i));
+        }
+
+        if (count == 1 && replacements.size() == 1) {
+            internalList.set(fromIndex, replacements.get(0));
+            return;
+        }
+        if (count > 0) {
+            internalList.remove(fromIndex, fromIndex + count);
+        }
+        if (!replacements.isEmpty()) {
+            internalList.addAll(fromIndex, replacements);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} already guarantees that its persons are unique, they are not validated again.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        replaceIndex(replacement.personsByNameAndPhone, replacement.personsByNameAndEmail);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +145,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<IdentityKey, Person> newPersonsByNameAndPhone = new HashMap<>();
+        Map<IdentityKey, Person> newPersonsByNameAndEmail = new HashMap<>();
+        if (!indexIfUnique(persons, newPersonsByNameAndPhone, newPersonsByNameAndEmail)) {
             throw new DuplicatePersonException();
         }
 
+        replaceIndex(newPersonsByNameAndPhone, newPersonsByNameAndEmail);
         internalList.setAll(persons);
     }
 
@@ -122,16 +180,79 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Indexes {@code persons} into {@code byNameAndPhone} and {@code byNameAndEmail}.
+     * Returns false as soon as two persons are found to have the same identity, in which case the maps are left
+     * partially filled.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static boolean indexIfUnique(List<Person> persons, Map<IdentityKey, Person> byNameAndPhone,
+            Map<IdentityKey, Person> byNameAndEmail) {
+        for (Person person : persons) {
+            if (byNameAndPhone.putIfAbsent(IdentityKey.ofNameAndPhone(person), person) != null
+                    || byNameAndEmail.putIfAbsent(IdentityKey.ofNameAndEmail(person), person) != null) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns true if another person in the list, other than {@code self}, has the same identity as {@code toCheck}.
+     */
+    private boolean isIdentityTakenByOther(Person toCheck, Person self) {
+        Person samePhoneHolder = personsByNameAndPhone.get(IdentityKey.ofNameAndPhone(toCheck));
+        Person sameEmailHolder = personsByNameAndEmail.get(IdentityKey.ofNameAndEmail(toCheck));
+        return (samePhoneHolder != null && samePhoneHolder != self)
+                || (sameEmailHolder != null && sameEmailHolder != self);
+    }
+
+    private void addToIndex(Person person) {
+        personsByNameAndPhone.put(IdentityKey.ofNameAndPhone(person), person);
+        personsByNameAndEmail.put(IdentityKey.ofNameAndEmail(person), person);
+    }
+
+    private void removeFromIndex(Person person) {
+        personsByNameAndPhone.remove(IdentityKey.ofNameAndPhone(person), person);
+        personsByNameAndEmail.remove(IdentityKey.ofNameAndEmail(person), person);
+    }
+
+    private void replaceIndex(Map<IdentityKey, Person> byNameAndPhone, Map<IdentityKey, Person> byNameAndEmail) {
+        personsByNameAndPhone.clear();
+        personsByNameAndPhone.putAll(byNameAndPhone);
+        personsByNameAndEmail.clear();
+        personsByNameAndEmail.putAll(byNameAndEmail);
+    }
+
+    /**
+     * A composite key made up of a person's name and one other identity field.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object otherField;
+
+        private IdentityKey(Name name, Object otherField) {
+            this.name = name;
+            this.otherField = otherField;
+        }
+
+        static IdentityKey ofNameAndPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofNameAndEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && otherField.equals(((IdentityKey) other).otherField));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, otherField);
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package seedu.address.model.search;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons that can also be answered from a {@code PersonSearchIndex},
+ * without testing every person in the address book.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns all persons indexed by {@code searchIndex} that satisfy this predicate.
+     */
+    Set<Person> findMatches(PersonSearchIndex searchIndex);
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findMatches(PersonSearchIndex)} would return,
+     * computed without looking them all up. Used to decide which index to look up first.
+     */
+    int estimateMatchCount(PersonSearchIndex searchIndex);
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from the case-folded words of person names to the persons whose names contain them.
+ * The indexed words are also kept in a trie, so that they can be looked up by prefix,
+ * and in a BK-tree, so that they can be looked up by edit distance.
+ */
+public class NameTokenIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final WordTrie words = new WordTrie();
+    private final WordBkTree wordsByEditDistance = new WordBkTree();
+
+    /**
+     * Adds {@code person} to the posting list of every word in its name.
+     */
+    void add(Person person) {
+        for (String token : person.getName().getFoldedWords()) {
+            postings.computeIfAbsent(token, unused -> {
+                words.add(token);
+                wordsByEditDistance.add(token);
+                return new HashSet<>();
+            }).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of every word in its name.
+     */
+    void remove(Person person) {
+        for (String token : person.getName().getFoldedWords()) {
+            Set<Person> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+                words.remove(token);
+                wordsByEditDistance.remove(token);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        words.clear();
+        wordsByEditDistance.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose names contain {@code word}, ignoring case.
+     * A full word match is required.
+     */
+    public Set<Person> lookUp(String word) {
+        requireNonNull(word);
+        Set<Person> posting = postings.get(Name.foldWord(word));
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns the persons whose names contain a word that starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> lookUpPrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<Person> persons = new HashSet<>();
+        for (String word : words.getWordsStartingWith(Name.foldWord(prefix))) {
+            persons.addAll(postings.get(word));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons whose names contain a word within {@code maxDistance} edits of {@code word}, ignoring case.
+     * Persons whose names contain closer words come first in the iteration order of the returned set.
+     */
+    public Set<Person> lookUpFuzzy(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<Person> persons = new LinkedHashSet<>();
+        for (String closeWord : wordsByEditDistance.search(Name.foldWord(word), maxDistance)) {
+            persons.addAll(postings.get(closeWord));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns at most {@code limit} of the case-folded name words that start with {@code prefix}, ignoring case,
+     * in lexicographic order.
+     */
+    public List<String> suggestWords(String prefix, int limit) {
+        requireNonNull(prefix);
+        return words.getWordsStartingWith(Name.foldWord(prefix), limit);
+    }
+}
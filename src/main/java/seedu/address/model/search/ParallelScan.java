@@ -0,0 +1,49 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests a predicate on every person of a list, for predicates that no index can answer.
+ *
+ * Lists of at least {@link #PARALLEL_THRESHOLD} persons are split into chunks that are tested on the common
+ * {@code ForkJoinPool}, so a full scan of a large address book is spread across all cores.
+ * The predicate is therefore tested from several threads at once, and must not depend on any mutable state.
+ */
+public class ParallelScan {
+
+    /** The smallest list that is worth splitting across threads. */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    private ParallelScan() {} // prevents instantiation
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}.
+     * The returned set compares persons by identity, which is much cheaper to hash than {@code Person#hashCode()}.
+     */
+    public static Set<Person> findMatches(List<Person> persons, Predicate<Person> predicate) {
+        requireNonNull(persons);
+        requireNonNull(predicate);
+
+        // a snapshot array splits into even chunks without going through the list's accessors
+        Stream<Person> stream = Arrays.stream(persons.toArray(new Person[0]));
+        if (persons.size() >= PARALLEL_THRESHOLD) {
+            stream = stream.parallel();
+        }
+        return stream.filter(predicate).collect(Collectors.toCollection(ParallelScan::newIdentitySet));
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
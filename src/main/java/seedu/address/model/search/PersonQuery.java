@@ -0,0 +1,111 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the criteria given.
+ *
+ * The matches are found by a small query planner. The indexed criterion with the fewest estimated matches is looked
+ * up first. Each further indexed criterion whose estimated matches are no more than the candidates left is then
+ * intersected with them. Finally, every remaining criterion is tested on the few candidates left.
+ * Only when no criterion is indexed are all persons tested, in parallel if there are many of them.
+ *
+ * A person scores the sum of its scores on the ranked criteria. The other criteria are exact, so every match
+ * satisfies them equally well.
+ */
+public class PersonQuery implements IndexedPredicate, RankedPredicate {
+    private final List<Predicate<Person>> criteria;
+
+    public PersonQuery(List<Predicate<Person>> criteria) {
+        requireNonNull(criteria);
+        this.criteria = Collections.unmodifiableList(new ArrayList<>(criteria));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> criterion : criteria) {
+            if (!criterion.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int score(Person person) {
+        int score = 0;
+        for (Predicate<Person> criterion : criteria) {
+            if (criterion instanceof RankedPredicate) {
+                score += ((RankedPredicate) criterion).score(person);
+            }
+        }
+        return score;
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex searchIndex) {
+        Map<IndexedPredicate, Integer> estimatedMatchCounts = new IdentityHashMap<>();
+        List<Predicate<Person>> residualCriteria = new ArrayList<>();
+        for (Predicate<Person> criterion : criteria) {
+            if (criterion instanceof IndexedPredicate) {
+                IndexedPredicate indexedCriterion = (IndexedPredicate) criterion;
+                estimatedMatchCounts.put(indexedCriterion, indexedCriterion.estimateMatchCount(searchIndex));
+            } else {
+                residualCriteria.add(criterion);
+            }
+        }
+
+        if (estimatedMatchCounts.isEmpty()) {
+            return ParallelScan.findMatches(searchIndex.getPersons(), this);
+        }
+
+        List<IndexedPredicate> indexedCriteria = new ArrayList<>(estimatedMatchCounts.keySet());
+        indexedCriteria.sort(Comparator.comparing(estimatedMatchCounts::get));
+        Set<Person> candidates = new LinkedHashSet<>(indexedCriteria.get(0).findMatches(searchIndex));
+        for (IndexedPredicate criterion : indexedCriteria.subList(1, indexedCriteria.size())) {
+            if (estimatedMatchCounts.get(criterion) <= candidates.size()) {
+                candidates.retainAll(criterion.findMatches(searchIndex));
+            } else {
+                // looking up more matches than there are candidates costs more than testing the candidates
+                residualCriteria.add(criterion);
+            }
+        }
+
+        for (Predicate<Person> criterion : residualCriteria) {
+            candidates.removeIf(criterion.negate());
+        }
+        return candidates;
+    }
+
+    @Override
+    public int estimateMatchCount(PersonSearchIndex searchIndex) {
+        int estimatedMatchCount = searchIndex.size();
+        for (Predicate<Person> criterion : criteria) {
+            if (criterion instanceof IndexedPredicate) {
+                estimatedMatchCount = Math.min(estimatedMatchCount,
+                        ((IndexedPredicate) criterion).estimateMatchCount(searchIndex));
+            }
+        }
+        return estimatedMatchCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonQuery // instanceof handles nulls
+                && criteria.equals(((PersonQuery) other).criteria)); // state check
+    }
+
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Holds the search indexes of a person list, and keeps them in sync with every change to that list.
+ */
+public class PersonSearchIndex {
+
+    private final ObservableList<Person> persons;
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final ValueIndex phoneIndex = new ValueIndex();
+    private final ValueIndex emailIndex = new ValueIndex();
+    private final TagBitmapIndex tagIndex = new TagBitmapIndex();
+    private int indexedPersonCount;
+
+    /**
+     * Creates a {@code PersonSearchIndex} that indexes, and follows all changes to, {@code persons}.
+     */
+    public PersonSearchIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.forEach(this::add);
+        persons.addListener(this::update);
+    }
+
+    /**
+     * Returns the indexed persons, for predicates that cannot be answered from any index.
+     */
+    public ObservableList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return indexedPersonCount;
+    }
+
+    public NameTokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
+    /**
+     * Returns the index of persons by their exact phone number.
+     */
+    public ValueIndex getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    /**
+     * Returns the index of persons by their email, case-folded with {@link #foldEmail(String)}.
+     */
+    public ValueIndex getEmailIndex() {
+        return emailIndex;
+    }
+
+    /**
+     * Returns the bitmap index of persons by the names of their tags.
+     */
+    public TagBitmapIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns {@code email} in the case that emails are indexed in.
+     */
+    public static String foldEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.getRemovedSize() == indexedPersonCount) {
+                // Reindexing the final list is cheaper than unindexing every person one by one.
+                clear();
+                change.getList().forEach(this::add);
+                return;
+            }
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        nameTokenIndex.add(person);
+        phoneIndex.add(person.getPhone().value, person);
+        emailIndex.add(foldEmail(person.getEmail().value), person);
+        tagIndex.add(person);
+        indexedPersonCount++;
+    }
+
+    private void remove(Person person) {
+        nameTokenIndex.remove(person);
+        phoneIndex.remove(person.getPhone().value, person);
+        emailIndex.remove(foldEmail(person.getEmail().value), person);
+        tagIndex.remove(person);
+        indexedPersonCount--;
+    }
+
+    private void clear() {
+        nameTokenIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        tagIndex.clear();
+        indexedPersonCount = 0;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.model.search;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons that can also score how well a person matches it, so that the best matches can be
+ * shown first.
+ */
+public interface RankedPredicate extends Predicate<Person> {
+    /** The score of a keyword that matches a whole word. */
+    int EXACT_MATCH_SCORE = 3;
+    /** The score of a keyword that matches the start of a word. */
+    int PREFIX_MATCH_SCORE = 2;
+    /** The score of a keyword that matches a word within a few typos. */
+    int FUZZY_MATCH_SCORE = 1;
+
+    /**
+     * Returns how well {@code person} matches this predicate, where a higher score is a better match.
+     * Only meaningful for persons that satisfy this predicate.
+     */
+    int score(Person person);
+}
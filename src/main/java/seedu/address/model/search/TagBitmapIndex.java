@@ -0,0 +1,123 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from tag names to bitmaps of the persons that have them.
+ *
+ * Every indexed person is given a small integer ID, and each tag is mapped to a {@code BitSet} with the IDs of the
+ * persons that have it set. Tag queries are then evaluated 64 persons at a time with word-level AND, OR and AND NOT
+ * operations on those bitmaps. The IDs of removed persons are reused first, so the bitmaps stay dense.
+ */
+public class TagBitmapIndex {
+
+    private final Map<String, BitSet> bitmaps = new HashMap<>();
+    private final Map<Person, Integer> ids = new HashMap<>();
+    private final List<Person> personsById = new ArrayList<>();
+    private final BitSet usedIds = new BitSet();
+    /** No ID below this one is free. */
+    private int lowestFreeId;
+
+    /**
+     * Gives {@code person} an ID and sets it in the bitmap of each of its tags.
+     */
+    void add(Person person) {
+        int id = lowestFreeId;
+        usedIds.set(id);
+        lowestFreeId = usedIds.nextClearBit(id + 1);
+        ids.put(person, id);
+        if (id == personsById.size()) {
+            personsById.add(person);
+        } else {
+            personsById.set(id, person);
+        }
+
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(tag.tagName, unused -> new BitSet()).set(id);
+        }
+    }
+
+    /**
+     * Clears the ID of {@code person} from the bitmap of each of its tags, and frees the ID.
+     */
+    void remove(Person person) {
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+        usedIds.clear(id);
+        personsById.set(id, null);
+        lowestFreeId = Math.min(lowestFreeId, id);
+
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = bitmaps.get(tag.tagName);
+            bitmap.clear(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tag.tagName);
+            }
+        }
+    }
+
+    void clear() {
+        bitmaps.clear();
+        ids.clear();
+        personsById.clear();
+        usedIds.clear();
+        lowestFreeId = 0;
+    }
+
+    /**
+     * Returns the number of persons that have the tag named {@code tagName}.
+     */
+    public int count(String tagName) {
+        requireNonNull(tagName);
+        BitSet bitmap = bitmaps.get(tagName);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+
+    /**
+     * Returns the persons that have at least one of the tags of every group in {@code requiredTagGroups},
+     * and none of the {@code excludedTags}.
+     */
+    public Set<Person> select(Collection<? extends Collection<String>> requiredTagGroups,
+            Collection<String> excludedTags) {
+        requireNonNull(requiredTagGroups);
+        requireNonNull(excludedTags);
+
+        BitSet selected = (BitSet) usedIds.clone();
+        for (Collection<String> tagGroup : requiredTagGroups) {
+            BitSet groupBitmap = new BitSet();
+            for (String tagName : tagGroup) {
+                BitSet bitmap = bitmaps.get(tagName);
+                if (bitmap != null) {
+                    groupBitmap.or(bitmap);
+                }
+            }
+            selected.and(groupBitmap);
+        }
+        for (String tagName : excludedTags) {
+            BitSet bitmap = bitmaps.get(tagName);
+            if (bitmap != null) {
+                selected.andNot(bitmap);
+            }
+        }
+
+        Set<Person> persons = new HashSet<>();
+        for (int id = selected.nextSetBit(0); id >= 0; id = selected.nextSetBit(id + 1)) {
+            persons.add(personsById.get(id));
+        }
+        return persons;
+    }
+}
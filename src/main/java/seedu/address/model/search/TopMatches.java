@@ -0,0 +1,118 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the persons that best match a {@code RankedPredicate}.
+ *
+ * The matches are scored one at a time and fed into a heap that never holds more than the number of persons asked
+ * for, so neither the full set of matches nor a sort of it is ever built. Large address books are scanned in
+ * parallel, with one heap per chunk that are merged at the end.
+ */
+public class TopMatches {
+
+    private TopMatches() {} // prevents instantiation
+
+    /**
+     * Returns the order of persons from the best to the worst match of {@code predicate}.
+     * Persons with the same score are ordered by name.
+     */
+    public static Comparator<Person> bestFirst(RankedPredicate predicate) {
+        requireNonNull(predicate);
+        return Comparator.comparingInt(predicate::score).reversed()
+                .thenComparing(person -> person.getName().fullName);
+    }
+
+    /**
+     * Returns at most {@code limit} persons indexed by {@code searchIndex} that satisfy {@code predicate},
+     * best match first, in the order of {@link #bestFirst(RankedPredicate)}.
+     */
+    public static List<Person> find(PersonSearchIndex searchIndex, RankedPredicate predicate, int limit) {
+        requireNonNull(searchIndex);
+        requireNonNull(predicate);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        Stream<Person> matches;
+        if (predicate instanceof IndexedPredicate
+                && ((IndexedPredicate) predicate).estimateMatchCount(searchIndex) < ParallelScan.PARALLEL_THRESHOLD) {
+            // there are few enough matches that looking them up costs less than scanning for them
+            matches = ((IndexedPredicate) predicate).findMatches(searchIndex).stream();
+        } else {
+            matches = Arrays.stream(searchIndex.getPersons().toArray(new Person[0]));
+            if (searchIndex.size() >= ParallelScan.PARALLEL_THRESHOLD) {
+                matches = matches.parallel();
+            }
+            matches = matches.filter(predicate);
+        }
+        return matches.map(person -> new ScoredPerson(person, predicate.score(person)))
+                .collect(Collector.of(() -> new BoundedHeap(limit), BoundedHeap::offer, BoundedHeap::merge,
+                        BoundedHeap::toBestFirstList));
+    }
+
+    /**
+     * A person with its score, so that the score is computed only once.
+     */
+    private static class ScoredPerson {
+        /** Orders the worst match first, so that it sits at the head of the heap, ready to be evicted. */
+        private static final Comparator<ScoredPerson> WORST_FIRST = Comparator
+                .comparingInt((ScoredPerson scoredPerson) -> scoredPerson.score)
+                .thenComparing(scoredPerson -> scoredPerson.person.getName().fullName, Comparator.reverseOrder());
+
+        private final Person person;
+        private final int score;
+
+        ScoredPerson(Person person, int score) {
+            this.person = person;
+            this.score = score;
+        }
+    }
+
+    /**
+     * A min-heap that keeps the best {@code limit} of the scored persons offered to it.
+     */
+    private static class BoundedHeap {
+        private final int limit;
+        private final PriorityQueue<ScoredPerson> heap;
+
+        BoundedHeap(int limit) {
+            this.limit = limit;
+            heap = new PriorityQueue<>(Math.min(limit, 64), ScoredPerson.WORST_FIRST);
+        }
+
+        void offer(ScoredPerson scoredPerson) {
+            if (heap.size() < limit) {
+                heap.add(scoredPerson);
+            } else if (ScoredPerson.WORST_FIRST.compare(scoredPerson, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scoredPerson);
+            }
+        }
+
+        BoundedHeap merge(BoundedHeap other) {
+            other.heap.forEach(this::offer);
+            return this;
+        }
+
+        List<Person> toBestFirstList() {
+            List<Person> persons = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                persons.add(heap.poll().person);
+            }
+            Collections.reverse(persons);
+            return persons;
+        }
+    }
+}
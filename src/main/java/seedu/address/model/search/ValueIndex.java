@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A hash index from exact field values to the persons that have them.
+ */
+public class ValueIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting list of {@code value}.
+     */
+    void add(String value, Person person) {
+        postings.computeIfAbsent(value, unused -> new HashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the posting list of {@code value}.
+     */
+    void remove(String value, Person person) {
+        Set<Person> posting = postings.get(value);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(person);
+        if (posting.isEmpty()) {
+            postings.remove(value);
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons that have {@code value}.
+     */
+    public Set<Person> lookUp(String value) {
+        requireNonNull(value);
+        Set<Person> posting = postings.get(value);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    /**
+     * Returns the number of persons that have {@code value}.
+     */
+    public int count(String value) {
+        requireNonNull(value);
+        Set<Person> posting = postings.get(value);
+        return posting == null ? 0 : posting.size();
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree over a set of distinct words, for finding the words within an edit distance of a given word.
+ * The triangle inequality of the edit distance lets a search skip every subtree that cannot hold a close enough
+ * word, so only a small part of the words are compared against the query when the distance bound is small.
+ *
+ * Removed words are only marked as removed, since the tree is arranged around them. The tree is rebuilt from the
+ * remaining words once more than half of its nodes are removed words.
+ */
+class WordBkTree {
+
+    private Node root;
+    private int wordCount;
+    private int removedWordCount;
+
+    /**
+     * Adds {@code word} to the tree. Adding a word that is already in the tree has no effect.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            wordCount++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedWordCount--;
+                    wordCount++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                wordCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree. Removing a word that is not in the tree has no effect.
+     */
+    void remove(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedWordCount++;
+                    wordCount--;
+                }
+                break;
+            }
+            node = node.children.get(distance);
+        }
+
+        if (removedWordCount > wordCount) {
+            rebuild();
+        }
+    }
+
+    void clear() {
+        root = null;
+        wordCount = 0;
+        removedWordCount = 0;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code query}, closest first.
+     * Words at the same distance are in lexicographic order.
+     */
+    List<String> search(String query, int maxDistance) {
+        Map<String, Integer> matchDistances = new HashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(query, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matchDistances.put(node.word, distance);
+            }
+            // any word within maxDistance of the query is within this range of distances from node.word
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+
+        List<String> words = new ArrayList<>(matchDistances.keySet());
+        words.sort(Comparator.<String, Integer>comparing(matchDistances::get).thenComparing(Comparator.naturalOrder()));
+        return words;
+    }
+
+    /**
+     * Rebuilds the tree from the words that have not been removed.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>(wordCount);
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            node.children.values().forEach(pending::push);
+        }
+
+        clear();
+        words.forEach(this::add);
+    }
+
+    /**
+     * A tree node, whose children are keyed by their edit distance from this node's word.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
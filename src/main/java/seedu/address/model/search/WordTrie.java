@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A character trie over a set of distinct words, for finding the words that start with a given prefix.
+ * Looking up a prefix takes time proportional to the length of the prefix plus the size of the result,
+ * regardless of how many words the trie holds.
+ */
+class WordTrie {
+
+    private Node root = new Node();
+
+    /**
+     * Adds {@code word} to the trie. Adding a word that is already in the trie has no effect.
+     */
+    void add(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new Node());
+        }
+        node.isWord = true;
+    }
+
+    /**
+     * Removes {@code word} from the trie, along with the nodes that no longer lead to any word.
+     */
+    void remove(String word) {
+        remove(root, word, 0);
+    }
+
+    /**
+     * Returns true if the subtree of {@code node} no longer holds any word after removing {@code word} from it.
+     */
+    private static boolean remove(Node node, String word, int depth) {
+        if (depth == word.length()) {
+            node.isWord = false;
+        } else {
+            Node child = node.children.get(word.charAt(depth));
+            if (child != null && remove(child, word, depth + 1)) {
+                node.children.remove(word.charAt(depth));
+            }
+        }
+        return !node.isWord && node.children.isEmpty();
+    }
+
+    void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Returns the words that start with {@code prefix}, in lexicographic order.
+     */
+    List<String> getWordsStartingWith(String prefix) {
+        return getWordsStartingWith(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns at most {@code limit} words that start with {@code prefix}, in lexicographic order.
+     */
+    List<String> getWordsStartingWith(String prefix, int limit) {
+        List<String> words = new ArrayList<>();
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node != null) {
+            collectWords(node, new StringBuilder(prefix), words, limit);
+        }
+        return words;
+    }
+
+    /**
+     * Adds the words in the subtree of {@code node}, which is reached by {@code path}, to {@code words}
+     * until {@code words} holds {@code limit} words.
+     */
+    private static void collectWords(Node node, StringBuilder path, List<String> words, int limit) {
+        if (words.size() >= limit) {
+            return;
+        }
+        if (node.isWord) {
+            words.add(path.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (words.size() >= limit) {
+                return;
+            }
+            path.append(child.getKey().charValue());
+            collectWords(child.getValue(), path, words, limit);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    /**
+     * A trie node, whose children are kept in character order.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private boolean isWord;
+    }
+}
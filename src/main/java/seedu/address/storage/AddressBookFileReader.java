@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.core.AddressBookStorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Reads an address book file of any of the {@link AddressBookStorageFormat}s, whichever format it is in.
+ * Every {@link AddressBookStorage} reads a file of another format with this class, and its next save converts the
+ * file to its own format, so changing the format of the data file never loses the data in it.
+ *
+ * A file is told apart by its first four bytes. Every format other than json starts with a magic number of its own,
+ * and the first byte of all of them, 0xAB, cannot start a UTF-8 encoded json file. A chunked file is told apart by
+ * either of its two header slots, since a save that did not finish may leave the first slot torn. Any other file is
+ * json, and it is a json snapshot with a journal if there is a journal next to it.
+ */
+class AddressBookFileReader {
+
+    private AddressBookFileReader() {} // prevents instantiation
+
+    /**
+     * Returns the format of the existing file at {@code filePath}.
+     */
+    static AddressBookStorageFormat getFormat(Path filePath) throws IOException {
+        switch (readMagicNumber(filePath)) {
+        case BinaryAddressBookStorage.MAGIC_NUMBER:
+            return AddressBookStorageFormat.BINARY;
+        case RecordFileAddressBookStorage.MAGIC_NUMBER:
+            return AddressBookStorageFormat.RECORD_FILE;
+        case ShardedAddressBookStorage.MAGIC_NUMBER:
+            return AddressBookStorageFormat.SHARDED;
+        case FileUtil.COMPRESSED_FILE_MAGIC_NUMBER:
+            return AddressBookStorageFormat.COMPRESSED_JSON;
+        default:
+            break;
+        }
+
+        if (ChunkedAddressBookStorage.isChunkedFile(filePath)) {
+            return AddressBookStorageFormat.CHUNKED;
+        }
+        return Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath))
+                ? AddressBookStorageFormat.JOURNAL
+                : AddressBookStorageFormat.JSON;
+    }
+
+    /**
+     * Reads the existing file at {@code filePath} with the storage of its format.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        AddressBookStorage storage;
+        switch (getFormat(filePath)) {
+        case BINARY:
+            storage = new BinaryAddressBookStorage(filePath);
+            break;
+        case RECORD_FILE:
+            storage = new RecordFileAddressBookStorage(filePath);
+            break;
+        case SHARDED:
+            storage = new ShardedAddressBookStorage(filePath);
+            break;
+        case CHUNKED:
+            storage = new ChunkedAddressBookStorage(filePath);
+            break;
+        case JOURNAL:
+            storage = new JournalAddressBookStorage(filePath);
+            break;
+        default:
+            storage = new JsonAddressBookStorage(filePath);
+            break;
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Returns the first four bytes of the file at {@code filePath}, or 0 if it is shorter.
+     */
+    private static int readMagicNumber(Path filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt();
+        } catch (EOFException eofe) {
+            return 0;
+        }
+    }
+
+}
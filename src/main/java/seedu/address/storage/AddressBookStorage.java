@@ -9,6 +9,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
+ * A storage reads a data file of any other format as well, with {@link AddressBookFileReader}.
  */
 public interface AddressBookStorage {
 
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves snapshots of an address book to an {@code AddressBookStorage} on a background thread, so that whoever asks
+ * for a save never waits for the file to be written.
+ *
+ * Saves are coalesced: a snapshot that is still waiting to be written when a newer one arrives is replaced by it, so
+ * a burst of changes costs at most one write more than the one in progress.
+ */
+public class AsyncAddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        // an unfinished save must not keep the application alive, MainApp#stop flushes it instead
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The latest snapshot that no save has picked up yet, if any. */
+    private ReadOnlyAddressBook pendingSnapshot;
+    /** The save that was scheduled last, which runs after every other scheduled save. */
+    private Future<?> lastScheduledSave = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a saver that writes to {@code storage}, and calls {@code failureHandler} on the background thread with
+     * the cause of every failed save.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved, replacing any snapshot that is still waiting to be saved.
+     * {@code snapshot} must not change after it is handed over.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook snapshot) {
+        boolean isSaveScheduled = pendingSnapshot != null;
+        pendingSnapshot = snapshot;
+        if (!isSaveScheduled) {
+            lastScheduledSave = executor.submit(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot requested so far is saved, or has failed to save.
+     */
+    public void flush() {
+        Future<?> save;
+        synchronized (this) {
+            save = lastScheduledSave;
+        }
+
+        try {
+            save.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            // savePendingSnapshot handles its own failures, so this only happens if saving is broken
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private void savePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(ioe));
+            failureHandler.accept(ioe);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC_NUMBER}, followed by a dictionary of the distinct tag names and then the
+ * persons. Each person is its four fields followed by the dictionary indexes of its tags. Strings are UTF-8, and
+ * every string, count and index is prefixed or written as a variable-length integer. The file ends with the CRC32
+ * of everything before it. Each field is validated only once, when its value object is built, and each distinct
+ * tag is validated and built only once, however many persons have it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every file of this format. */
+    public static final int MAGIC_NUMBER = 0xAB424B01;
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC_NUMBER}.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        return startsWith(filePath, MAGIC_NUMBER);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@code magicNumber}.
+     */
+    static boolean startsWith(Path filePath, int magicNumber) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == magicNumber;
+        } catch (EOFException eofe) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                logger.info("Reading " + filePath + " in another format, to be converted on the next save");
+                return AddressBookFileReader.readAddressBook(filePath);
+            }
+            return Optional.of(readBinaryFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book in the format of this class from {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, or ends too early.
+     * @throws IllegalValueException if the file is corrupted, or there were any data constraints violated.
+     */
+    static AddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath)), crc))) {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            Tag[] tags = readTags(in);
+
+            Person[] persons = new Person[readCount(in)];
+            for (int i = 0; i < persons.length; i++) {
+                persons[i] = readPerson(in, tags);
+            }
+
+            long expectedChecksum = crc.getValue();
+            if (in.readInt() != (int) expectedChecksum) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return JsonSerializableAddressBook.toAddressBook(Arrays.asList(persons));
+        }
+    }
+
+    /**
+     * Reads a dictionary of tags written by {@link #writeTags(DataOutput, Collection)}.
+     */
+    static Tag[] readTags(DataInputStream in) throws IOException, IllegalValueException {
+        Tag[] tags = new Tag[readCount(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = toModelType(() -> new Tag(readString(in)));
+        }
+        return tags;
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(DataOutput, Person, Map)}, whose tags are in {@code tags}.
+     */
+    static Person readPerson(DataInputStream in, Tag[] tags) throws IOException, IllegalValueException {
+        Name name = toModelType(() -> new Name(readString(in)));
+        Phone phone = toModelType(() -> new Phone(readString(in)));
+        Email email = toModelType(() -> new Email(readString(in)));
+        Address address = toModelType(() -> new Address(readString(in)));
+
+        int tagCount = readCount(in);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = readVarInt(in);
+            if (tagIndex < 0 || tagIndex >= tags.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            personTags.add(tags[tagIndex]);
+        }
+        return new Person(name, phone, email, address, personTags);
+    }
+
+    /**
+     * Returns the value object built by {@code constructor}, which validates the value that it reads.
+     *
+     * @throws IllegalValueException if the value violates the constraints of the value object.
+     */
+    private static <T> T toModelType(ValueReader<T> constructor) throws IOException, IllegalValueException {
+        try {
+            return constructor.read();
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        saveBinaryFile(addressBook, filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} in the format of this class to {@code filePath}.
+     */
+    static void saveBinaryFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<Tag, Integer> tagIndexes = indexTags(persons);
+
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath)), crc))) {
+            out.writeInt(MAGIC_NUMBER);
+            writeTags(out, tagIndexes.keySet());
+
+            writeVarInt(out, persons.size());
+            for (Person person : persons) {
+                writePerson(out, person, tagIndexes);
+            }
+
+            out.writeInt((int) crc.getValue());
+        }
+    }
+
+    /**
+     * Returns the distinct tags of {@code persons}, each mapped to its index in the order first seen.
+     */
+    static Map<Tag, Integer> indexTags(List<Person> persons) {
+        Map<Tag, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag, tagIndexes.size());
+            }
+        }
+        return tagIndexes;
+    }
+
+    /**
+     * Writes a dictionary of {@code tags}, in iteration order.
+     */
+    static void writeTags(DataOutput out, Collection<Tag> tags) throws IOException {
+        writeVarInt(out, tags.size());
+        for (Tag tag : tags) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    /**
+     * Writes {@code person}, with its tags as their indexes in {@code tagIndexes}.
+     */
+    static void writePerson(DataOutput out, Person person, Map<Tag, Integer> tagIndexes) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, tagIndexes.get(tag));
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, seven bits at a time from the lowest bits up.
+     * The highest bit of each byte is set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED_FILE);
+    }
+
+    /**
+     * Reads a count of items or bytes that are about to be read. Every item takes at least a byte, so the count cannot
+     * be more than the bytes left in the file. This keeps a corrupted count from allocating a huge array.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = readVarInt(in);
+        if (count < 0 || count > in.available()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a value and builds a value object from it.
+     */
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read() throws IOException;
+    }
+}
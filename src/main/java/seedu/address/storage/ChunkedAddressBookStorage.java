@@ -0,0 +1,459 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a file of checksummed chunks of persons, of which
+ * a save only rewrites the chunks that changed.
+ *
+ * The file starts with two header slots, followed by an append-only area of chunks and indexes. Each chunk holds
+ * about {@link #PERSONS_PER_CHUNK} persons in the format of {@link BinaryAddressBookStorage}, with its own tag
+ * dictionary. An index lists the offset, length, person count and checksum of every chunk, in order. Each header
+ * slot holds a generation number and the offset, length and checksum of an index, and is checksummed itself.
+ * The valid slot with the highest generation is the current one.
+ *
+ * A save appends the chunks that changed since the last save and a new index, forces them to the disk, and only then
+ * writes a header of the next generation into the slot that is not current. A save that does not finish therefore
+ * leaves the previous header, and everything it points to, intact. The file is rewritten as a whole, into a new file
+ * that then replaces it, once it is more than twice as large as its live chunks and index.
+ *
+ * A chunk keeps the persons that it was saved with, so an edit or a delete only touches the chunk of that person,
+ * and an add only touches the last chunk. A chunk that grows to twice its size is split.
+ */
+public class ChunkedAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every header slot. */
+    public static final int MAGIC_NUMBER = 0xAB434B01;
+
+    /** The number of persons that a chunk is created with. */
+    static final int PERSONS_PER_CHUNK = 256;
+
+    static final int HEADER_SLOT_SIZE = 32;
+    static final int DATA_START = 2 * HEADER_SLOT_SIZE;
+
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES * 3;
+
+    private static final Logger logger = LogsCenter.getLogger(ChunkedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** The file the other fields describe, or null if the next save has to rewrite the whole file. */
+    private Path savedFilePath;
+    /** The chunks of the current index, as last saved to, or read from, {@code savedFilePath}. */
+    private List<Chunk> savedChunks;
+    private long generation;
+    private long fileSize;
+    private long liveBytes;
+
+    public ChunkedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if either header slot of the file at {@code filePath} starts with {@link #MAGIC_NUMBER}.
+     */
+    static boolean isChunkedFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() < DATA_START) {
+                return false;
+            }
+            ByteBuffer headerSlots = FileUtil.readFully(channel, 0, DATA_START);
+            return headerSlots.getInt(0) == MAGIC_NUMBER || headerSlots.getInt(HEADER_SLOT_SIZE) == MAGIC_NUMBER;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Chunked file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!isChunkedFile(filePath)) {
+                logger.info("Reading " + filePath + " in another format, to be converted on the next save");
+                savedFilePath = null;
+                return AddressBookFileReader.readAddressBook(filePath);
+            }
+            return Optional.of(readChunkedFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from chunked file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private AddressBook readChunkedFile(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer headerSlots = FileUtil.readFully(channel, 0, DATA_START);
+            Header header = Header.newer(Header.decode(headerSlots, 0),
+                    Header.decode(headerSlots, HEADER_SLOT_SIZE));
+            if (header == null || header.indexOffset + header.indexLength > channel.size()) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+
+            ByteBuffer index = FileUtil.readFully(channel, header.indexOffset, header.indexLength);
+            if (checksum(index) != header.indexChecksum) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+
+            List<Chunk> chunks = new ArrayList<>();
+            List<Person> persons = new ArrayList<>();
+            int chunkCount = index.getInt();
+            if (chunkCount < 0 || chunkCount > index.remaining() / INDEX_ENTRY_SIZE) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            for (int i = 0; i < chunkCount; i++) {
+                long offset = index.getLong();
+                int length = index.getInt();
+                int personCount = index.getInt();
+                int chunkChecksum = index.getInt();
+                if (offset < DATA_START || length < 0 || offset + length > channel.size()) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                }
+
+                ByteBuffer chunkBytes = FileUtil.readFully(channel, offset, length);
+                if (checksum(chunkBytes) != chunkChecksum) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                Chunk chunk = new Chunk(decodeChunk(chunkBytes, personCount), offset, length, chunkChecksum);
+                chunks.add(chunk);
+                persons.addAll(chunk.persons);
+            }
+
+            AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(persons);
+            setSavedState(filePath, chunks, header.generation, channel.size(), header.indexLength);
+            return addressBook;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<List<Person>> chunkedPersons = filePath.equals(savedFilePath) ? rechunk(savedChunks, persons) : null;
+        if (chunkedPersons == null || fileSize > 2 * liveBytes) {
+            rewrite(persons, filePath);
+            return;
+        }
+
+        Map<Person, Chunk> savedChunksByFirstPerson = new IdentityHashMap<>();
+        for (Chunk chunk : savedChunks) {
+            savedChunksByFirstPerson.put(chunk.persons.get(0), chunk);
+        }
+        List<Chunk> chunks = new ArrayList<>();
+        boolean hasChanged = chunkedPersons.size() != savedChunks.size();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            long position = fileSize;
+            for (List<Person> chunkPersons : chunkedPersons) {
+                Chunk savedChunk = savedChunksByFirstPerson.get(chunkPersons.get(0));
+                if (savedChunk != null && PersonListUtil.isSameIdentities(savedChunk.persons, chunkPersons)) {
+                    chunks.add(savedChunk);
+                    continue;
+                }
+                Chunk chunk = writeChunk(channel, chunkPersons, position);
+                position += chunk.length;
+                chunks.add(chunk);
+                hasChanged = true;
+            }
+            if (!hasChanged) {
+                return;
+            }
+
+            ByteBuffer index = encodeIndex(chunks);
+            int indexLength = index.remaining();
+            FileUtil.writeFully(channel, index.duplicate(), position);
+            channel.force(false);
+
+            Header header = new Header(generation + 1, position, indexLength, checksum(index));
+            FileUtil.writeFully(channel, header.encode(), header.slotOffset());
+            channel.force(false);
+            setSavedState(filePath, chunks, header.generation, position + indexLength, indexLength);
+        }
+    }
+
+    /**
+     * Writes {@code persons} into a new file of this format, which then replaces the file at {@code filePath}.
+     */
+    private void rewrite(List<Person> persons, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path newFilePath = filePath.resolveSibling(filePath.getFileName() + ".new");
+        List<Chunk> chunks = new ArrayList<>();
+        Header header;
+        try (FileChannel channel = FileChannel.open(newFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = DATA_START;
+            for (int i = 0; i < persons.size(); i += PERSONS_PER_CHUNK) {
+                Chunk chunk = writeChunk(channel, persons.subList(i, Math.min(i + PERSONS_PER_CHUNK, persons.size())),
+                        position);
+                position += chunk.length;
+                chunks.add(chunk);
+            }
+
+            ByteBuffer index = encodeIndex(chunks);
+            header = new Header(1, position, index.remaining(), checksum(index));
+            FileUtil.writeFully(channel, index, position);
+            FileUtil.writeFully(channel, header.encode(), header.slotOffset());
+            FileUtil.writeFully(channel, ByteBuffer.allocate(HEADER_SLOT_SIZE), HEADER_SLOT_SIZE - header.slotOffset());
+            channel.force(false);
+        }
+
+        try {
+            Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        setSavedState(filePath, chunks, header.generation, Files.size(filePath), header.indexLength);
+    }
+
+    private void setSavedState(Path filePath, List<Chunk> chunks, long generation, long fileSize, int indexLength) {
+        this.savedFilePath = filePath;
+        this.savedChunks = chunks;
+        this.generation = generation;
+        this.fileSize = fileSize;
+        this.liveBytes = DATA_START + indexLength + chunks.stream().mapToLong(chunk -> chunk.length).sum();
+    }
+
+    /**
+     * Returns {@code persons} split into chunks that keep the persons of {@code savedChunks} together as much as
+     * possible, or null if the persons of {@code savedChunks} are no longer in the same order.
+     *
+     * Each saved chunk that still has some of its persons starts a new chunk at the first of them, and the new chunk
+     * runs up to where the next one starts. Persons that are not in any saved chunk thus join the chunk before them.
+     */
+    static List<List<Person>> rechunk(List<Chunk> savedChunks, List<Person> persons) {
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+
+        List<Integer> chunkStarts = new ArrayList<>();
+        for (Chunk chunk : savedChunks) {
+            Integer start = chunk.persons.stream().map(positions::get).filter(position -> position != null)
+                    .findFirst().orElse(null);
+            if (start == null) {
+                continue;
+            }
+            if (!chunkStarts.isEmpty() && start <= chunkStarts.get(chunkStarts.size() - 1)) {
+                return null;
+            }
+            chunkStarts.add(chunkStarts.isEmpty() ? 0 : start);
+        }
+        if (chunkStarts.isEmpty() && !persons.isEmpty()) {
+            chunkStarts.add(0);
+        }
+
+        List<List<Person>> chunkedPersons = new ArrayList<>();
+        for (int i = 0; i < chunkStarts.size(); i++) {
+            int end = i + 1 < chunkStarts.size() ? chunkStarts.get(i + 1) : persons.size();
+            List<Person> chunkPersons = persons.subList(chunkStarts.get(i), end);
+            if (chunkPersons.size() < 2 * PERSONS_PER_CHUNK) {
+                chunkedPersons.add(chunkPersons);
+                continue;
+            }
+            for (int j = 0; j < chunkPersons.size(); j += PERSONS_PER_CHUNK) {
+                chunkedPersons.add(chunkPersons.subList(j, Math.min(j + PERSONS_PER_CHUNK, chunkPersons.size())));
+            }
+        }
+        return chunkedPersons;
+    }
+
+    private static Chunk writeChunk(FileChannel channel, List<Person> persons, long position) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        Map<Tag, Integer> tagIndexes = BinaryAddressBookStorage.indexTags(persons);
+        BinaryAddressBookStorage.writeTags(out, tagIndexes.keySet());
+        for (Person person : persons) {
+            BinaryAddressBookStorage.writePerson(out, person, tagIndexes);
+        }
+
+        ByteBuffer chunkBytes = ByteBuffer.wrap(bytes.toByteArray());
+        Chunk chunk = new Chunk(new ArrayList<>(persons), position, chunkBytes.remaining(), checksum(chunkBytes));
+        FileUtil.writeFully(channel, chunkBytes, position);
+        return chunk;
+    }
+
+    private static List<Person> decodeChunk(ByteBuffer chunkBytes, int personCount)
+            throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(chunkBytes.array(), 0, chunkBytes.limit()));
+        Tag[] tags = BinaryAddressBookStorage.readTags(in);
+        List<Person> persons = new ArrayList<>(Math.min(personCount, chunkBytes.limit()));
+        for (int i = 0; i < personCount; i++) {
+            persons.add(BinaryAddressBookStorage.readPerson(in, tags));
+        }
+        if (persons.isEmpty() || in.available() != 0) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+        }
+        return persons;
+    }
+
+    private static ByteBuffer encodeIndex(List<Chunk> chunks) {
+        ByteBuffer index = ByteBuffer.allocate(Integer.BYTES + chunks.size() * INDEX_ENTRY_SIZE);
+        index.putInt(chunks.size());
+        for (Chunk chunk : chunks) {
+            index.putLong(chunk.offset).putInt(chunk.length).putInt(chunk.persons.size()).putInt(chunk.checksum);
+        }
+        index.flip();
+        return index;
+    }
+
+    /**
+     * Returns the CRC32 of the remaining bytes of {@code buffer}, without consuming them.
+     */
+    static int checksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A chunk of persons as saved in the file.
+     */
+    static class Chunk {
+        private final List<Person> persons;
+        private final long offset;
+        private final int length;
+        private final int checksum;
+
+        Chunk(List<Person> persons, long offset, int length, int checksum) {
+            this.persons = Collections.unmodifiableList(persons);
+            this.offset = offset;
+            this.length = length;
+            this.checksum = checksum;
+        }
+
+        List<Person> getPersons() {
+            return persons;
+        }
+    }
+
+    /**
+     * The contents of a header slot. The generation decides which slot it belongs in.
+     */
+    private static class Header {
+        private final long generation;
+        private final long indexOffset;
+        private final int indexLength;
+        private final int indexChecksum;
+
+        Header(long generation, long indexOffset, int indexLength, int indexChecksum) {
+            this.generation = generation;
+            this.indexOffset = indexOffset;
+            this.indexLength = indexLength;
+            this.indexChecksum = indexChecksum;
+        }
+
+        long slotOffset() {
+            return (generation % 2) * HEADER_SLOT_SIZE;
+        }
+
+        ByteBuffer encode() {
+            ByteBuffer slot = ByteBuffer.allocate(HEADER_SLOT_SIZE);
+            slot.putInt(MAGIC_NUMBER).putLong(generation).putLong(indexOffset).putInt(indexLength)
+                    .putInt(indexChecksum);
+            slot.flip();
+            int slotChecksum = checksum(slot);
+            slot.limit(HEADER_SLOT_SIZE);
+            slot.putInt(slot.capacity() - Integer.BYTES, slotChecksum);
+            return slot;
+        }
+
+        /**
+         * Returns the header in the slot at {@code slotOffset} of {@code headerSlots}, or null if the slot does not
+         * hold a valid header.
+         */
+        static Header decode(ByteBuffer headerSlots, int slotOffset) {
+            ByteBuffer slot = ByteBuffer.wrap(headerSlots.array(), slotOffset, HEADER_SLOT_SIZE - Integer.BYTES)
+                    .slice();
+            int slotChecksum = headerSlots.getInt(slotOffset + HEADER_SLOT_SIZE - Integer.BYTES);
+            if (slot.getInt(0) != MAGIC_NUMBER || checksum(slot) != slotChecksum) {
+                return null;
+            }
+            slot.getInt();
+            Header header = new Header(slot.getLong(), slot.getLong(), slot.getInt(), slot.getInt());
+            return header.indexLength >= Integer.BYTES && header.indexOffset >= DATA_START ? header : null;
+        }
+
+        /**
+         * Returns the header of the higher generation, or null if both are null.
+         */
+        static Header newer(Header first, Header second) {
+            if (first == null || second == null) {
+                return first == null ? second : first;
+            }
+            return first.generation > second.generation ? first : second;
+        }
+    }
+
+    /**
+     * Returns the persons of each chunk of the current index of the file at {@code filePath}, as last saved or read
+     * by this storage. For tests.
+     */
+    List<List<Person>> getSavedChunkPersons() {
+        List<List<Person>> chunkPersons = new ArrayList<>();
+        savedChunks.forEach(chunk -> chunkPersons.add(chunk.getPersons()));
+        return chunkPersons;
+    }
+}
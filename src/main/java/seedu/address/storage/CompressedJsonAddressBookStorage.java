@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json file that is deflated as it is written.
+ * The json is written and read one person at a time, as in {@link JsonAddressBookStorage}, so neither it nor its
+ * compressed bytes are ever held in memory as a whole.
+ */
+public class CompressedJsonAddressBookStorage implements AddressBookStorage {
+
+    private final Path filePath;
+    private final int compressionLevel;
+
+    /**
+     * @param compressionLevel the level of the {@code Deflater}, from 0 (fastest) to 9 (smallest).
+     */
+    public CompressedJsonAddressBookStorage(Path filePath, int compressionLevel) {
+        this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonSerializableAddressBook.saveModelType(addressBook, filePath, compressionLevel);
+    }
+
+}
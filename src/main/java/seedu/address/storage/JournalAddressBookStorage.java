@@ -0,0 +1,314 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.AddressBookStorageFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot plus a journal of the changes since.
+ *
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. The journal is kept next to it,
+ * with the extension {@value #JOURNAL_EXTENSION}. Its first line is the checksum of the snapshot it follows, and
+ * every further line is one {@link JsonAdaptedJournalRecord}. A save only appends the records that turn the last
+ * saved persons into the given ones, so its cost follows the size of the change rather than of the address book.
+ * Once the journal outgrows both the snapshot and {@code minCompactionBytes}, the next save compacts it by writing
+ * a new snapshot and starting an empty journal.
+ *
+ * A journal whose checksum does not match the snapshot, such as one left behind by a compaction that did not
+ * finish, is ignored. So is a last record that was only partly written.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final long DEFAULT_MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final int CHECKSUM_BUFFER_SIZE = 8192;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long minCompactionBytes;
+
+    /** The file the other fields describe, or null if the next save has to write a new snapshot. */
+    private Path savedFilePath;
+    /** The persons as last saved to, or read from, {@code savedFilePath}. */
+    private List<Person> savedPersons;
+    private long snapshotBytes;
+    private long journalBytes;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} whose journal is never compacted before it holds more than
+     * {@code minCompactionBytes}.
+     */
+    public JournalAddressBookStorage(Path filePath, long minCompactionBytes) {
+        this.filePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that follows the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or a journal record is not in the correct format,
+     *     or a journal record does not apply to the persons before it.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBookStorageFormat format = AddressBookFileReader.getFormat(filePath);
+        if (format != AddressBookStorageFormat.JOURNAL && format != AddressBookStorageFormat.JSON
+                && format != AddressBookStorageFormat.COMPRESSED_JSON) {
+            logger.info("Reading " + filePath + " in another format, to be converted on the next save");
+            savedFilePath = null;
+            return AddressBookFileReader.readAddressBook(filePath);
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = JsonSerializableAddressBook.readModelType(filePath);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        boolean isJournalIntact = replayJournal(addressBook, getJournalFilePath(filePath), checksum(filePath));
+        if (isJournalIntact) {
+            setSavedState(filePath, addressBook.getPersonList(), Files.size(filePath),
+                    Files.size(getJournalFilePath(filePath)));
+        } else {
+            savedFilePath = null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalFilePath} to {@code addressBook}, if the journal follows
+     * the snapshot with {@code snapshotChecksum}.
+     *
+     * @return true if the journal can be appended to, i.e. it follows the snapshot and its records are all whole.
+     */
+    private static boolean replayJournal(AddressBook addressBook, Path journalFilePath, String snapshotChecksum)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, UTF_8)) {
+            if (!snapshotChecksum.equals(reader.readLine())) {
+                logger.warning("Ignoring " + journalFilePath + " as it does not follow the snapshot");
+                return false;
+            }
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                try {
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(addressBook);
+                } catch (IOException | IllegalValueException e) {
+                    if (reader.readLine() == null && !endsWithLineBreak(journalFilePath)) {
+                        logger.warning("Ignoring the partly written last record of " + journalFilePath);
+                        return false;
+                    }
+                    logger.info("Illegal journal record found in " + journalFilePath + ": " + e.getMessage());
+                    throw new DataConversionException(e);
+                }
+            }
+        }
+        return endsWithLineBreak(journalFilePath);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} ends with a line break, i.e. its last line was written in full.
+     */
+    private static boolean endsWithLineBreak(Path filePath) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            if (channel.size() == 0) {
+                return false;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<JsonAdaptedJournalRecord> records = filePath.equals(savedFilePath)
+                ? diff(savedPersons, persons)
+                : null;
+        if (records == null || journalBytes > Math.max(minCompactionBytes, snapshotBytes)) {
+            compact(addressBook, filePath);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder appended = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            appended.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] appendedBytes = appended.toString().getBytes(UTF_8);
+        Files.write(getJournalFilePath(filePath), appendedBytes, StandardOpenOption.APPEND);
+        setSavedState(filePath, persons, snapshotBytes, journalBytes + appendedBytes.length);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath}, followed by an empty journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        JsonSerializableAddressBook.saveModelType(addressBook, filePath);
+        String journalHeader = checksum(filePath) + "\n";
+        FileUtil.writeToFile(getJournalFilePath(filePath), journalHeader);
+        setSavedState(filePath, addressBook.getPersonList(), Files.size(filePath), journalHeader.length());
+    }
+
+    private void setSavedState(Path filePath, List<Person> persons, long snapshotBytes, long journalBytes) {
+        this.savedFilePath = filePath;
+        this.savedPersons = new ArrayList<>(persons);
+        this.snapshotBytes = snapshotBytes;
+        this.journalBytes = journalBytes;
+    }
+
+    /**
+     * Returns the journal records that turn {@code oldPersons} into {@code newPersons}, or null if the change
+     * cannot be recorded.
+     *
+     * Persons are immutable, so an unchanged person is the same object in both lists. The records remove the persons
+     * that are gone first, then replace at most one person in place, then add the new persons at the end, so
+     * replaying them can never run into a duplicate person. Any other change, such as a reordering, is not recorded.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Person> oldPersons, List<Person> newPersons) {
+        Set<Person> oldPersonSet = identitySetOf(oldPersons);
+        Set<Person> newPersonSet = identitySetOf(newPersons);
+        List<JsonAdaptedJournalRecord> removals = new ArrayList<>();
+        List<JsonAdaptedJournalRecord> replacements = new ArrayList<>();
+
+        int newIndex = 0;
+        for (int oldIndex = 0; oldIndex < oldPersons.size(); oldIndex++) {
+            Person oldPerson = oldPersons.get(oldIndex);
+            Person newPerson = newIndex < newPersons.size() ? newPersons.get(newIndex) : null;
+            if (oldPerson == newPerson) {
+                newIndex++;
+            } else if (newPersonSet.contains(oldPerson)) {
+                return null;
+            } else if (newPerson != null && !oldPersonSet.contains(newPerson)
+                    && isAlignedAfter(oldPersons, oldIndex, newPersons, newIndex)) {
+                replacements.add(JsonAdaptedJournalRecord.set(oldPerson, newPerson));
+                newIndex++;
+            } else {
+                removals.add(JsonAdaptedJournalRecord.remove(oldPerson));
+            }
+        }
+        if (replacements.size() > 1) {
+            return null;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(removals);
+        records.addAll(replacements);
+        for (Person newPerson : newPersons.subList(newIndex, newPersons.size())) {
+            if (oldPersonSet.contains(newPerson)) {
+                return null;
+            }
+            records.add(JsonAdaptedJournalRecord.add(newPerson));
+        }
+        return records;
+    }
+
+    /**
+     * Returns true if the persons after {@code oldIndex} and {@code newIndex} start the same way,
+     * i.e. the person at {@code newIndex} takes the place of the one at {@code oldIndex}.
+     */
+    private static boolean isAlignedAfter(List<Person> oldPersons, int oldIndex, List<Person> newPersons,
+            int newIndex) {
+        if (oldIndex + 1 == oldPersons.size()) {
+            return true;
+        }
+        return newIndex + 1 < newPersons.size() && oldPersons.get(oldIndex + 1) == newPersons.get(newIndex + 1);
+    }
+
+    private static Set<Person> identitySetOf(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(persons);
+        return set;
+    }
+
+    /**
+     * Returns the checksum of the snapshot at {@code filePath}, reading it a buffer at a time.
+     */
+    private static String checksum(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int count = in.read(buffer); count != -1; count = in.read(buffer)) {
+                crc.update(buffer, 0, count);
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+}
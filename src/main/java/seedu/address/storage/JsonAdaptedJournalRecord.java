@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Jackson-friendly version of one change to the persons of an address book, as recorded in a journal.
+ * Persons are identified as in {@code UniquePersonList}, by all of their fields.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal record has an unknown type: %s";
+    public static final String MESSAGE_INAPPLICABLE = "Journal record cannot be applied to the address book: %s";
+
+    static final String TYPE_ADD = "add";
+    static final String TYPE_SET = "set";
+    static final String TYPE_REMOVE = "remove";
+
+    private final String type;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("target") JsonAdaptedPerson target,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record of {@code person} being added to the end of the persons.
+     */
+    public static JsonAdaptedJournalRecord add(Person person) {
+        return new JsonAdaptedJournalRecord(TYPE_ADD, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of {@code target} being replaced in place by {@code editedPerson}.
+     */
+    public static JsonAdaptedJournalRecord set(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalRecord(TYPE_SET, new JsonAdaptedPerson(target),
+                new JsonAdaptedPerson(editedPerson));
+    }
+
+    /**
+     * Returns a record of {@code target} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(Person target) {
+        return new JsonAdaptedJournalRecord(TYPE_REMOVE, new JsonAdaptedPerson(target), null);
+    }
+
+    /**
+     * Applies the recorded change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is malformed, or does not apply to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            switch (String.valueOf(type)) {
+            case TYPE_ADD:
+                addressBook.addPerson(toPerson(person));
+                break;
+            case TYPE_SET:
+                addressBook.setPerson(toPerson(target), toPerson(person));
+                break;
+            case TYPE_REMOVE:
+                addressBook.removePerson(toPerson(target));
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INAPPLICABLE, type));
+        }
+    }
+
+    private static Person toPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        if (jsonAdaptedPerson == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    Person.class.getSimpleName()));
+        }
+        return jsonAdaptedPerson.toModelType();
+    }
+}
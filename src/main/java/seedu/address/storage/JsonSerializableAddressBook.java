@@ -1,17 +1,23 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +27,13 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** The number of persons read from a file before they are converted. */
+    static final int CONVERSION_CHUNK_SIZE = 4096;
+    /** The smallest number of persons that is worth converting across threads. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 256;
+
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -42,17 +55,105 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons are converted in parallel, see {@link #toModelTypes(List)}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelTypes(persons));
+    }
+
+    /**
+     * Reads the address book in the JSON format of this class from {@code filePath}. The persons are converted in
+     * parallel, a chunk of {@link #CONVERSION_CHUNK_SIZE} at a time as they are read, so no more than a chunk of them
+     * is ever held as {@code JsonAdaptedPerson}s.
+     *
+     * @throws IOException if the file cannot be read, or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(Path filePath) throws IOException, IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        List<JsonAdaptedPerson> chunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+        JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class, jsonAdaptedPerson -> {
+            chunk.add(jsonAdaptedPerson);
+            if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                modelPersons.addAll(toModelTypes(chunk));
+                chunk.clear();
             }
-            addressBook.addPerson(person);
+        });
+        modelPersons.addAll(toModelTypes(chunk));
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Saves {@code source} in the JSON format of this class to {@code filePath}, converting each person just before
+     * it is written.
+     */
+    public static void saveModelType(ReadOnlyAddressBook source, Path filePath) throws IOException {
+        saveModelType(source.getPersonList(), filePath);
+    }
+
+    /**
+     * Saves an address book of {@code persons} in the JSON format of this class to {@code filePath}, as
+     * {@link #saveModelType(ReadOnlyAddressBook, Path)} does.
+     */
+    static void saveModelType(List<Person> persons, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD, persons.stream().map(JsonAdaptedPerson::new).iterator());
+    }
+
+    /**
+     * Similar to {@link #saveModelType(ReadOnlyAddressBook, Path)}, but the file is compressed at
+     * {@code compressionLevel}. {@link #readModelType(Path)} reads it back like an uncompressed file.
+     */
+    public static void saveModelType(ReadOnlyAddressBook source, Path filePath, int compressionLevel)
+            throws IOException {
+        JsonUtil.saveCompressedJsonArrayFile(filePath, PERSONS_FIELD,
+                source.getPersonList().stream().map(JsonAdaptedPerson::new).iterator(), compressionLevel);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person} objects, in the same order.
+     * Lists of at least {@link #PARALLEL_CONVERSION_THRESHOLD} persons are converted on the common
+     * {@code ForkJoinPool}, so the validation of a large address book is spread across all cores.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. As when converting the persons one
+     *     by one, this is the violation of the first person in {@code jsonAdaptedPersons} that has one.
+     */
+    private static List<Person> toModelTypes(List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException {
+        Person[] modelPersons = new Person[jsonAdaptedPersons.size()];
+        IllegalValueException[] violations = new IllegalValueException[jsonAdaptedPersons.size()];
+        IntStream indexes = IntStream.range(0, modelPersons.length);
+        if (modelPersons.length >= PARALLEL_CONVERSION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                modelPersons[i] = jsonAdaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                violations[i] = ive;
+            }
+        });
+
+        for (IllegalValueException violation : violations) {
+            if (violation != null) {
+                throw violation;
+            }
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code persons}, which are checked for duplicates all at once.
+     *
+     * @throws IllegalValueException if two of the persons have the same identity.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
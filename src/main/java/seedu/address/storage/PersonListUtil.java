@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Utility methods for the lists of persons that storages keep from their last save.
+ */
+class PersonListUtil {
+
+    private PersonListUtil() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code persons} and {@code otherPersons} hold the same {@code Person} objects in the same order.
+     * Persons are immutable, so the persons of a list that was saved before are unchanged if this holds, which is
+     * checked without comparing any of their fields.
+     */
+    static boolean isSameIdentities(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
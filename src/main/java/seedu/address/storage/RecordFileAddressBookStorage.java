@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a file of person records with an offset table,
+ * for very large address books.
+ *
+ * The file starts with {@link #MAGIC_NUMBER} and the tag dictionary of {@link BinaryAddressBookStorage}, followed by
+ * one record per person in the format of that class. After the records comes the offset table, which holds the
+ * file offset of every record and then the offset of the table itself, then the CRC32 of every chunk of records and
+ * the number of persons. Last comes the CRC32 of the tag dictionary and everything after the records.
+ *
+ * Reading only reads the tag dictionary and the offset table, and checks their CRC32. The persons are paged in from
+ * the file a chunk of {@link #RECORDS_PER_CHUNK} records at a time, when a person of the chunk is first accessed, so
+ * opening a large file costs the offset table rather than every person. The address book that is read holds no more
+ * than one decoded chunk, and is meant to be read once, in order, as {@code AddressBookLoader} does.
+ *
+ * A chunk is read with a positional read on a channel opened for it, and its CRC32 is checked before it is decoded.
+ * The file is not memory-mapped, since a mapping lasts until it is garbage collected, and on some platforms a file
+ * cannot be rewritten while it is mapped.
+ */
+public class RecordFileAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every file of this format. */
+    public static final int MAGIC_NUMBER = 0xAB524601;
+
+    /** The number of records read and decoded together. */
+    static final int RECORDS_PER_CHUNK = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(RecordFileAddressBookStorage.class);
+
+    private Path filePath;
+
+    public RecordFileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Record file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinaryAddressBookStorage.startsWith(filePath, MAGIC_NUMBER)) {
+                logger.info("Reading " + filePath + " in another format, to be converted on the next save");
+                return AddressBookFileReader.readAddressBook(filePath);
+            }
+            return Optional.of(readRecordFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from record file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the tag dictionary and the offset table of the file in the format of this class at {@code filePath}, and
+     * returns the address book whose persons are paged in from the file as they are accessed.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the tag dictionary or the offset table is corrupted.
+     */
+    private static ReadOnlyAddressBook readRecordFile(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < Integer.BYTES * 3 + Long.BYTES) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+
+            ByteBuffer end = FileUtil.readFully(channel, fileSize - Integer.BYTES * 2, Integer.BYTES * 2);
+            int personCount = end.getInt();
+            int checksum = end.getInt();
+            if (personCount < 0) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            int chunkCount = (personCount + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK;
+            long tableSize = (personCount + 1L) * Long.BYTES + (chunkCount + 1L) * Integer.BYTES;
+            long offsetTableStart = fileSize - Integer.BYTES - tableSize;
+            if (tableSize > Integer.MAX_VALUE || offsetTableStart < Integer.BYTES) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            ByteBuffer table = FileUtil.readFully(channel, offsetTableStart, (int) tableSize);
+            long[] offsets = new long[personCount + 1];
+            table.asLongBuffer().get(offsets);
+            int[] chunkChecksums = new int[chunkCount];
+            table.position(offsets.length * Long.BYTES);
+            table.asIntBuffer().get(chunkChecksums);
+            checkOffsets(offsets, offsetTableStart);
+
+            ByteBuffer header = FileUtil.readFully(channel, 0, (int) offsets[0]);
+            CRC32 crc = new CRC32();
+            crc.update(header.array(), 0, header.limit());
+            crc.update(table.array(), 0, table.limit());
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            Tag[] tags = BinaryAddressBookStorage.readTags(
+                    toDataInput(header, Integer.BYTES, header.limit() - Integer.BYTES));
+
+            return new PagedAddressBook(new PagedPersonList(filePath, offsets, chunkChecksums, tags));
+        }
+    }
+
+    /**
+     * Checks that every record in the offset table {@code offsets} lies after the tag dictionary, takes at least a
+     * byte, and ends before the offset table, which starts at {@code offsetTableStart}.
+     */
+    private static void checkOffsets(long[] offsets, long offsetTableStart) throws IllegalValueException {
+        if (offsets[0] <= Integer.BYTES || offsets[0] > Integer.MAX_VALUE
+                || offsets[offsets.length - 1] != offsetTableStart) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] <= offsets[i - 1]) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+        }
+    }
+
+    /**
+     * Reads and decodes the chunk of records that starts with record {@code first}, after checking that its CRC32 is
+     * {@code chunkChecksum}.
+     */
+    private static Person[] readChunk(FileChannel channel, long[] offsets, Tag[] tags, int first, int chunkChecksum)
+            throws IOException, IllegalValueException {
+        int end = Math.min(first + RECORDS_PER_CHUNK, offsets.length - 1);
+        long chunkStart = offsets[first];
+        long chunkSize = offsets[end] - chunkStart;
+        if (chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+        }
+
+        ByteBuffer chunk = FileUtil.readFully(channel, chunkStart, (int) chunkSize);
+        if (ChunkedAddressBookStorage.checksum(chunk) != chunkChecksum) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+        }
+        Person[] persons = new Person[end - first];
+        for (int i = first; i < end; i++) {
+            int recordSize = (int) (offsets[i + 1] - offsets[i]);
+            DataInputStream in = toDataInput(chunk, (int) (offsets[i] - chunkStart), recordSize);
+            persons[i - first] = BinaryAddressBookStorage.readPerson(in, tags);
+            if (in.available() != 0) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+        }
+        return persons;
+    }
+
+    private static DataInputStream toDataInput(ByteBuffer buffer, int offset, int length) {
+        return new DataInputStream(new ByteArrayInputStream(buffer.array(), offset, length));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        List<Person> persons = addressBook.getPersonList();
+        Map<Tag, Integer> tagIndexes = BinaryAddressBookStorage.indexTags(persons);
+        long[] offsets = new long[persons.size() + 1];
+
+        int[] chunkChecksums = new int[(persons.size() + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK];
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            CRC32 crc = new CRC32();
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            DataOutputStream headerOut = new DataOutputStream(header);
+            headerOut.writeInt(MAGIC_NUMBER);
+            BinaryAddressBookStorage.writeTags(headerOut, tagIndexes.keySet());
+            header.writeTo(new CheckedOutputStream(out, crc));
+
+            // DataOutputStream#size() stops counting at Integer.MAX_VALUE, so the offsets are counted separately
+            long position = header.size();
+            CRC32 chunkCrc = new CRC32();
+            CheckedOutputStream chunkOut = new CheckedOutputStream(out, chunkCrc);
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (int i = 0; i < persons.size(); i++) {
+                record.reset();
+                BinaryAddressBookStorage.writePerson(recordOut, persons.get(i), tagIndexes);
+                offsets[i] = position;
+                record.writeTo(chunkOut);
+                position += record.size();
+                if ((i + 1) % RECORDS_PER_CHUNK == 0 || i + 1 == persons.size()) {
+                    chunkChecksums[i / RECORDS_PER_CHUNK] = (int) chunkCrc.getValue();
+                    chunkCrc.reset();
+                }
+            }
+            offsets[persons.size()] = position;
+
+            DataOutputStream tableOut = new DataOutputStream(new CheckedOutputStream(out, crc));
+            for (long offset : offsets) {
+                tableOut.writeLong(offset);
+            }
+            for (int chunkChecksum : chunkChecksums) {
+                tableOut.writeInt(chunkChecksum);
+            }
+            tableOut.writeInt(persons.size());
+            out.writeInt((int) crc.getValue());
+        }
+    }
+
+    /**
+     * An address book read from a record file, which pages in its persons as they are accessed.
+     * Its persons are not checked for duplicates, which the address book they are added to rejects instead.
+     */
+    private static class PagedAddressBook implements ReadOnlyAddressBook {
+
+        private final ObservableList<Person> persons;
+
+        PagedAddressBook(PagedPersonList persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // the persons in the file are never changed through this address book
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // the persons in the file are never changed through this address book
+        }
+    }
+
+    /**
+     * The persons of a record file, paged in from the file a chunk at a time.
+     * Only the chunk of the person that was last accessed is kept decoded.
+     * A chunk that cannot be read, or is corrupted, fails the access with an {@code UncheckedIOException}.
+     */
+    private static class PagedPersonList extends AbstractList<Person> {
+
+        private final Path filePath;
+        private final long[] offsets;
+        private final int[] chunkChecksums;
+        private final Tag[] tags;
+        private int pagedInChunk = -1;
+        private Person[] pagedInPersons;
+
+        PagedPersonList(Path filePath, long[] offsets, int[] chunkChecksums, Tag[] tags) {
+            this.filePath = filePath;
+            this.offsets = offsets;
+            this.chunkChecksums = chunkChecksums;
+            this.tags = tags;
+        }
+
+        @Override
+        public synchronized Person get(int index) {
+            Objects.checkIndex(index, size());
+            int chunk = index / RECORDS_PER_CHUNK;
+            if (chunk != pagedInChunk) {
+                pagedInPersons = pageIn(chunk);
+                pagedInChunk = chunk;
+            }
+            return pagedInPersons[index - chunk * RECORDS_PER_CHUNK];
+        }
+
+        @Override
+        public int size() {
+            return offsets.length - 1;
+        }
+
+        private Person[] pageIn(int chunk) {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                return readChunk(channel, offsets, tags, chunk * RECORDS_PER_CHUNK, chunkChecksums[chunk]);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from record file " + filePath + ": " + ioe);
+                throw new UncheckedIOException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new UncheckedIOException(new IOException(ive.getMessage(), ive));
+            }
+        }
+    }
+}
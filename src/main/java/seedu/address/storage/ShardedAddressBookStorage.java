@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a number of json shard files, which are read and
+ * written in parallel, and of which a save only rewrites the shards whose persons changed.
+ *
+ * Each person is kept in the shard given by the hash of its name, which is part of its identity, so an edit that
+ * keeps the name of a person stays in its shard. Each shard is a json file of {@link JsonAddressBookStorage} with the
+ * persons of the shard in the order of the address book.
+ *
+ * The file at the path of the address book is a manifest. It starts with {@link #MAGIC_NUMBER} and holds the
+ * generation of each shard and, for each person of the address book in order, the shard that the person is in, so the
+ * order of the persons can be restored from the shards. A save writes the changed shards to new files named after the
+ * generation of the save, then replaces the manifest, and only then deletes the shard files that the old manifest
+ * pointed to. The shard files and the new manifest are forced to the disk before the manifest is replaced, so a save
+ * that does not finish, even because the system crashed, leaves the old manifest and all of its shards intact.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every manifest. */
+    public static final int MAGIC_NUMBER = 0xAB534801;
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    /** The shard of each person is written as a single byte. */
+    public static final int MAX_SHARD_COUNT = 256;
+
+    public static final String MESSAGE_SHARD_COUNT_CONSTRAINTS =
+            "The number of shards must be from 1 to " + MAX_SHARD_COUNT + ".";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+
+    /** The manifest that the other fields describe, or null if the next save has to write every shard. */
+    private Path savedFilePath;
+    private Manifest savedManifest;
+    /** The persons of each shard of {@code savedManifest}. */
+    private List<List<Person>> savedShards;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * @param shardCount the number of shards to save the address book in, from 1 to {@link #MAX_SHARD_COUNT}.
+     *     The manifest keeps the number of shards that a file was saved with, so this does not affect reading.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        checkArgument(shardCount >= 1 && shardCount <= MAX_SHARD_COUNT, MESSAGE_SHARD_COUNT_CONSTRAINTS);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the file of shard {@code shard} of generation {@code generation} of the address book
+     * whose manifest is at {@code filePath}.
+     */
+    static Path getShardFilePath(Path filePath, int shard, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + ".shard" + shard + "-" + generation + ".json");
+    }
+
+    /**
+     * Returns the shard of {@code person} out of {@code shardCount} shards. It only depends on the name of the person,
+     * with a hash that is the same on every JVM.
+     */
+    static int getShard(Person person, int shardCount) {
+        return Math.floorMod(person.getName().fullName.hashCode(), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Sharded address book manifest " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinaryAddressBookStorage.startsWith(filePath, MAGIC_NUMBER)) {
+                logger.info("Reading " + filePath + " in another format, to be converted on the next save");
+                savedFilePath = null;
+                return AddressBookFileReader.readAddressBook(filePath);
+            }
+            return Optional.of(readShardedFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from sharded address book " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private AddressBook readShardedFile(Path filePath) throws IOException, IllegalValueException {
+        Manifest manifest = Manifest.read(filePath);
+        int manifestShardCount = manifest.shardGenerations.length;
+
+        Person[][] shards = new Person[manifestShardCount][];
+        Exception[] shardFailures = new Exception[manifestShardCount];
+        IntStream.range(0, manifestShardCount).parallel().forEach(shard -> {
+            try {
+                Path shardFilePath = getShardFilePath(filePath, shard, manifest.shardGenerations[shard]);
+                shards[shard] = JsonSerializableAddressBook.readModelType(shardFilePath).getPersonList()
+                        .toArray(new Person[0]);
+            } catch (IOException | IllegalValueException e) {
+                shardFailures[shard] = e;
+            }
+        });
+        for (Exception failure : shardFailures) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure != null) {
+                throw (IllegalValueException) failure;
+            }
+        }
+
+        int[] nextInShard = new int[manifestShardCount];
+        List<Person> persons = new ArrayList<>(manifest.personShards.length);
+        for (byte personShard : manifest.personShards) {
+            int shard = Byte.toUnsignedInt(personShard);
+            if (nextInShard[shard] == shards[shard].length) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            persons.add(shards[shard][nextInShard[shard]++]);
+        }
+        for (int shard = 0; shard < manifestShardCount; shard++) {
+            if (nextInShard[shard] != shards[shard].length) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+        }
+
+        AddressBook addressBook = JsonSerializableAddressBook.toAddressBook(persons);
+        List<List<Person>> shardPersons = new ArrayList<>();
+        for (Person[] shard : shards) {
+            shardPersons.add(Arrays.asList(shard));
+        }
+        setSavedState(filePath, manifest, shardPersons);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<List<Person>> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(new ArrayList<>());
+        }
+        byte[] personShards = new byte[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            int shard = getShard(persons.get(i), shardCount);
+            personShards[i] = (byte) shard;
+            shards.get(shard).add(persons.get(i));
+        }
+
+        Manifest previousManifest = filePath.equals(savedFilePath) ? savedManifest : readPreviousManifest(filePath);
+        boolean isEveryShardChanged = !filePath.equals(savedFilePath) || savedShards.size() != shardCount;
+        long generation = previousManifest == null ? 1 : previousManifest.generation + 1;
+        long[] shardGenerations = new long[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            boolean isShardChanged = isEveryShardChanged
+                    || !PersonListUtil.isSameIdentities(savedShards.get(shard), shards.get(shard));
+            shardGenerations[shard] = isShardChanged ? generation : previousManifest.shardGenerations[shard];
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        IOException[] shardFailures = new IOException[shardCount];
+        IntStream.range(0, shardCount).parallel().filter(shard -> shardGenerations[shard] == generation)
+                .forEach(shard -> {
+                    try {
+                        Path shardFilePath = getShardFilePath(filePath, shard, generation);
+                        JsonSerializableAddressBook.saveModelType(shards.get(shard), shardFilePath);
+                        force(shardFilePath);
+                    } catch (IOException ioe) {
+                        shardFailures[shard] = ioe;
+                    }
+                });
+        for (IOException failure : shardFailures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        Manifest manifest = new Manifest(generation, shardGenerations, personShards);
+        manifest.write(filePath);
+        setSavedState(filePath, manifest, shards);
+        if (previousManifest != null) {
+            deleteUnusedShardFiles(filePath, previousManifest, manifest);
+        }
+    }
+
+    private void setSavedState(Path filePath, Manifest manifest, List<List<Person>> shards) {
+        this.savedFilePath = filePath;
+        this.savedManifest = manifest;
+        this.savedShards = shards;
+    }
+
+    /**
+     * Returns the manifest of the sharded address book at {@code filePath}, or null if there is none that can be read.
+     * It is only needed to delete the files of its shards once they are replaced.
+     */
+    private static Manifest readPreviousManifest(Path filePath) {
+        try {
+            if (Files.exists(filePath) && BinaryAddressBookStorage.startsWith(filePath, MAGIC_NUMBER)) {
+                return Manifest.read(filePath);
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring unreadable sharded address book manifest " + filePath + ": " + e);
+        }
+        return null;
+    }
+
+    /**
+     * Deletes the shard files of {@code previousManifest} that {@code manifest} no longer uses.
+     * A file that cannot be deleted is only logged, since it is never read again.
+     */
+    private static void deleteUnusedShardFiles(Path filePath, Manifest previousManifest, Manifest manifest) {
+        for (int shard = 0; shard < previousManifest.shardGenerations.length; shard++) {
+            long previousGeneration = previousManifest.shardGenerations[shard];
+            if (shard < manifest.shardGenerations.length && manifest.shardGenerations[shard] == previousGeneration) {
+                continue;
+            }
+            Path shardFilePath = getShardFilePath(filePath, shard, previousGeneration);
+            try {
+                Files.deleteIfExists(shardFilePath);
+            } catch (IOException ioe) {
+                logger.warning("Could not delete unused shard file " + shardFilePath + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Forces the contents of the written file at {@code filePath} to the disk.
+     */
+    private static void force(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * The generation of the address book and of each of its shards, and the shard of each of its persons, in order.
+     */
+    private static class Manifest {
+        private final long generation;
+        private final long[] shardGenerations;
+        private final byte[] personShards;
+
+        Manifest(long generation, long[] shardGenerations, byte[] personShards) {
+            this.generation = generation;
+            this.shardGenerations = shardGenerations;
+            this.personShards = personShards;
+        }
+
+        /**
+         * Reads the manifest at {@code filePath}.
+         *
+         * @throws IllegalValueException if the manifest is corrupted.
+         */
+        static Manifest read(Path filePath) throws IOException, IllegalValueException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+                if (in.readInt() != MAGIC_NUMBER) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                long generation = in.readLong();
+                int shardCount = in.readInt();
+                if (shardCount < 1 || shardCount > MAX_SHARD_COUNT) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                long[] shardGenerations = new long[shardCount];
+                for (int shard = 0; shard < shardCount; shard++) {
+                    shardGenerations[shard] = in.readLong();
+                }
+
+                int personCount = in.readInt();
+                if (personCount < 0 || personCount > Files.size(filePath)) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                byte[] personShards = new byte[personCount];
+                in.readFully(personShards);
+                for (byte personShard : personShards) {
+                    if (Byte.toUnsignedInt(personShard) >= shardCount) {
+                        throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                    }
+                }
+                if (in.read() != -1) {
+                    throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                return new Manifest(generation, shardGenerations, personShards);
+            }
+        }
+
+        /**
+         * Writes this manifest into a new file that then replaces the file at {@code filePath}.
+         */
+        void write(Path filePath) throws IOException {
+            Path newFilePath = filePath.resolveSibling(filePath.getFileName() + ".new");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(newFilePath)))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeLong(generation);
+                out.writeInt(shardGenerations.length);
+                for (long shardGeneration : shardGenerations) {
+                    out.writeLong(shardGeneration);
+                }
+                out.writeInt(personShards.length);
+                out.write(personShards);
+            }
+            force(newFilePath);
+
+            try {
+                Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.ui;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
@@ -20,18 +25,28 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
     private final List<String> history;
+    private final ContextMenu suggestionsMenu = new ContextMenu();
     private ListElementPointer historySnapshot;
 
     @FXML
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this(commandExecutor, unused -> Collections.emptyList(), history);
+    }
+
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider, List<String> history) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionProvider = suggestionProvider;
         this.history = history;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() and #showSuggestions() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            showSuggestions(newText);
+        });
         historySnapshot = new ListElementPointer(history);
     }
 
@@ -52,6 +67,14 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            if (!suggestionsMenu.isShowing()) {
+                break;
+            }
+            // consuming it keeps the focus in the command box
+            keyEvent.consume();
+            suggestionsMenu.getItems().get(0).fire();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -92,11 +115,38 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.positionCaret(commandTextField.getText().length());
     }
 
+    /**
+     * Shows the suggested completions of {@code text} below the text field, or hides them if there are none.
+     */
+    private void showSuggestions(String text) {
+        List<MenuItem> suggestionItems = suggestionProvider.getSuggestions(text).stream()
+                .filter(suggestion -> !suggestion.equals(text))
+                .map(this::createSuggestionItem)
+                .collect(Collectors.toList());
+        if (suggestionItems.isEmpty() || commandTextField.getScene() == null) {
+            suggestionsMenu.hide();
+            return;
+        }
+
+        suggestionsMenu.getItems().setAll(suggestionItems);
+        if (!suggestionsMenu.isShowing()) {
+            suggestionsMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private MenuItem createSuggestionItem(String suggestion) {
+        MenuItem item = new MenuItem(suggestion);
+        item.setMnemonicParsing(false);
+        item.setOnAction(unused -> replaceText(suggestion));
+        return item;
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
     @FXML
     private void handleCommandEntered() {
+        suggestionsMenu.hide();
         try {
             commandExecutor.execute(commandTextField.getText());
             initHistory();
@@ -151,4 +201,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of a partially entered command.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns the suggested completions of {@code commandText}.
+         *
+         * @see seedu.address.logic.Logic#getCommandSuggestions(String)
+         */
+        List<String> getSuggestions(String commandText);
+    }
+
 }
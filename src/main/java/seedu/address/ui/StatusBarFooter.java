@@ -5,8 +5,10 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -34,11 +36,24 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label syncStatus;
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private ProgressBar loadProgress;
 
 
-    public StatusBarFooter(Path saveLocation, ReadOnlyAddressBook addressBook) {
+    /**
+     * Creates a status bar that shows {@code loadProgress} while the address book is loading.
+     * The persons that are loaded do not count as updates of the address book.
+     */
+    public StatusBarFooter(Path saveLocation, ReadOnlyAddressBook addressBook, ReadOnlyDoubleProperty loadProgress) {
         super(FXML);
-        addressBook.addListener(observable -> updateSyncStatus());
+        addressBook.addListener(observable -> {
+            if (loadProgress.get() >= 1) {
+                updateSyncStatus();
+            }
+        });
+        this.loadProgress.progressProperty().bind(loadProgress);
+        this.loadProgress.visibleProperty().bind(loadProgress.lessThan(1));
+        this.loadProgress.managedProperty().bind(this.loadProgress.visibleProperty());
         syncStatus.setText(SYNC_STATUS_INITIAL);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
@@ -17,7 +17,6 @@ import seedu.address.model.UserPrefs;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.testutil.TestUtil;
-import systemtests.ModelHelper;
 
 /**
  * This class is meant to override some properties of MainApp so that it will be suited for
@@ -72,6 +71,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public AddressBook readStorageAddressBook() {
+        logic.flush();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -92,14 +92,16 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the model.
      */
     public Model getModel() {
-        Model copy = new ModelManager((model.getAddressBook()), new UserPrefs());
-        ModelHelper.setFilteredList(copy, model.getFilteredPersonList());
+        ModelManager copy = new ModelManager((model.getAddressBook()), new UserPrefs());
+        copy.setFilteredPersonListState((ModelManager) model);
         return copy;
     }
 
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
+        // the address book is loaded before returning, so that tests see all of it as soon as the app has started
+        model.loadPersons(readAddressBook().getPersonList());
     }
 
     public static void main(String[] args) {
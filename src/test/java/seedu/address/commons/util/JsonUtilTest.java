@@ -4,9 +4,16 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 
+import com.fasterxml.jackson.core.JsonParseException;
+
+import seedu.address.testutil.Assert;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +46,42 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_readJsonArrayFile_sameElements() throws IOException {
+        List<String> elements = Arrays.asList("first", "second", "third");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "elements", elements.iterator());
+
+        List<String> readElements = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readElements::add);
+        assertEquals(elements, readElements);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_skipped() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\": { \"elements\": [ \"nested\" ] }, "
+                + "\"elements\": [ \"first\" ], \"last\": [ 1, 2 ] }");
+
+        List<String> readElements = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readElements::add);
+        assertEquals(Collections.singletonList("first"), readElements);
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsJsonParseException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"first\" ]");
+
+        Assert.assertThrows(JsonParseException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedArray_throwsJsonParseException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"elements\": [ \"first\", ");
+
+        Assert.assertThrows(JsonParseException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, element -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -137,6 +138,37 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.editDistance(null, "abc");
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // Same strings
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("abc", "abc"));
+
+        // Empty string
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(3, StringUtil.editDistance("abc", ""));
+
+        // Single insertion, deletion and substitution
+        assertEquals(1, StringUtil.editDistance("alce", "alice"));
+        assertEquals(1, StringUtil.editDistance("alice", "alce"));
+        assertEquals(1, StringUtil.editDistance("alice", "alise"));
+
+        // Multiple edits
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(2, StringUtil.editDistance("ab", "ba"));
+
+        // Case sensitive
+        assertEquals(1, StringUtil.editDistance("Abc", "abc"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
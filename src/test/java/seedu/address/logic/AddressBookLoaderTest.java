@@ -0,0 +1,91 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class AddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    private final AddressBookLoader loader = new AddressBookLoader(model, Runnable::run);
+
+    @Test
+    public void load_typicalAddressBook_loadedAndNotUndoable() {
+        List<Boolean> isLoadingWhenLoaded = new ArrayList<>();
+        loader.load(() -> getTypicalAddressBook(), Runnable::run, () -> isLoadingWhenLoaded.add(loader.isLoading()));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertEquals(Arrays.asList(true), isLoadingWhenLoaded);
+        assertFalse(loader.isLoading());
+        assertEquals(1, loader.progressProperty().get(), 0);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void load_manyPersons_addedInBatches() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getManyPersons(AddressBookLoader.BATCH_SIZE * 2 + 1));
+        List<Integer> personCounts = new ArrayList<>();
+        loader.progressProperty().addListener((observable, oldValue, newValue) ->
+                personCounts.add(model.getAddressBook().getPersonList().size()));
+
+        loader.load(() -> addressBook, Runnable::run, () -> { });
+        assertEquals(addressBook, new AddressBook(model.getAddressBook()));
+        assertEquals(Arrays.asList(0, AddressBookLoader.BATCH_SIZE, AddressBookLoader.BATCH_SIZE * 2,
+                AddressBookLoader.BATCH_SIZE * 2 + 1), personCounts);
+    }
+
+    @Test
+    public void load_notYetRead_loading() {
+        List<Runnable> pendingReads = new ArrayList<>();
+        loader.load(() -> getTypicalAddressBook(), pendingReads::add, () -> { });
+
+        assertTrue(loader.isLoading());
+        assertEquals(AddressBookLoader.INDETERMINATE_PROGRESS, loader.progressProperty().get(), 0);
+
+        pendingReads.forEach(Runnable::run);
+        assertFalse(loader.isLoading());
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void load_readFails_loadingFinishedAndFailureReported() {
+        List<String> failureMessages = new ArrayList<>();
+        loader.setLoadFailureHandler(failureMessages::add);
+        IllegalStateException failure = new IllegalStateException("unreadable");
+
+        loader.load(() -> {
+            throw failure;
+        }, Runnable::run, () -> { });
+        assertFalse(loader.isLoading());
+        assertEquals(1, loader.progressProperty().get(), 0);
+        assertEquals(Arrays.asList(String.format(AddressBookLoader.MESSAGE_LOAD_FAILED, failure)), failureMessages);
+    }
+
+    @Test
+    public void load_onLoadedFails_loadingFinishedAndFailureReported() {
+        List<String> failureMessages = new ArrayList<>();
+        loader.setLoadFailureHandler(failureMessages::add);
+        IllegalStateException failure = new IllegalStateException("cannot use the search index");
+
+        loader.load(() -> getTypicalAddressBook(), Runnable::run, () -> {
+            throw failure;
+        });
+        assertFalse(loader.isLoading());
+        assertEquals(1, loader.progressProperty().get(), 0);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertEquals(Arrays.asList(String.format(AddressBookLoader.MESSAGE_LOAD_FAILED, failure)), failureMessages);
+    }
+}
@@ -8,9 +8,14 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,10 +25,12 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -45,13 +52,14 @@ public class LogicManagerTest {
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @Before
     public void setUp() throws Exception {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -77,13 +85,24 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_modifyingCommand_addressBookSavedInBackground() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flush();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_failureReportedAfterCommand() throws Exception {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        List<String> saveFailureMessages = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveFailureHandler(saveFailureMessages::add);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -92,9 +111,73 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         expectedModel.commitAddressBook();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        assertCommandBehavior(null, addCommand, String.format(AddCommand.MESSAGE_SUCCESS, expectedPerson),
+                expectedModel);
         assertHistoryCorrect(addCommand);
+
+        // the save fails in the background, after the command has succeeded
+        logic.flush();
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                saveFailureMessages);
+    }
+
+    @Test
+    public void execute_whileLoading_commandQueuedUntilLoaded() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, Runnable::run);
+        logic = new LogicManager(model, storage, loader);
+        List<String> queuedCommandResults = new ArrayList<>();
+        logic.setQueuedCommandResultHandler(queuedCommandResults::add);
+        List<Runnable> pendingReads = new ArrayList<>();
+        loader.load(() -> getTypicalAddressBook(), pendingReads::add, () -> { });
+
+        String listCommand = ListCommand.COMMAND_WORD;
+        String deleteCommand = DeleteCommand.COMMAND_WORD + " 1";
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, listCommand),
+                logic.execute(listCommand).getFeedbackToUser());
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, deleteCommand),
+                logic.execute(deleteCommand).getFeedbackToUser());
+
+        // does not need the address book -> executed right away
+        assertHistoryCorrect(deleteCommand, listCommand);
+        assertEquals(Collections.emptyList(), queuedCommandResults);
+
+        Person firstPerson = getTypicalAddressBook().getPersonList().get(0);
+        pendingReads.forEach(Runnable::run);
+        assertEquals(Arrays.asList(ListCommand.MESSAGE_SUCCESS,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, firstPerson)), queuedCommandResults);
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, model.getAddressBook().getPersonList().size());
+
+        // the deletion is saved like any other
+        logic.flush();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getCommandSuggestions_findCommand_lastWordCompleted() {
+        model.addPerson(new PersonBuilder().withName("Alice Pauline").build());
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").withPhone("123").build());
+
+        assertEquals(Arrays.asList("find bob alex", "find bob alice"), logic.getCommandSuggestions("find bob AL"));
+        assertEquals(Collections.singletonList("find  pauline"), logic.getCommandSuggestions("find  p"));
+    }
+
+    @Test
+    public void getCommandSuggestions_nothingToComplete_noSuggestions() {
+        model.addPerson(new PersonBuilder().withName("Alice Pauline").build());
+
+        // not a find command
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("delete al"));
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("finder al"));
+
+        // no keyword started yet
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("find "));
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("find al "));
+
+        // the command word itself
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("find"));
+
+        // already a prefix keyword
+        assertEquals(Collections.emptyList(), logic.getCommandSuggestions("find al*"));
     }
 
     @Test
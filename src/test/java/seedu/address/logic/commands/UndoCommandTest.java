@@ -1,10 +1,14 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.deleteFirstPerson;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -12,6 +16,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedAddressBook;
 
 public class UndoCommandTest {
 
@@ -42,4 +47,23 @@ public class UndoCommandTest {
         // no undoable states in model
         assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_spilledStateUnreadable_historyLost() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoStatesInMemory(2);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        for (int i = 0; i < 3; i++) {
+            deleteFirstPerson(model);
+        }
+        Path spillFilePath = ((VersionedAddressBook) model.getAddressBook()).getSpillFilePath().get();
+        Files.write(spillFilePath, new byte[0]);
+
+        // the newest undone state is still in memory
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, new UndoCommand().execute(model, commandHistory).getFeedbackToUser());
+
+        // the next one has to be read back from disk
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_HISTORY_LOST);
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
+    }
 }
@@ -5,11 +5,21 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +41,78 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldPrefixes_returnsFindCommandWithQuery() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob", "Carl")),
+                new PhoneMatchesPredicate(Arrays.asList("94351253", "98765432")),
+                new EmailMatchesPredicate(Collections.singletonList("alice@example.com")),
+                new AddressContainsKeywordsPredicate(Arrays.asList("Jurong", "West")),
+                new TagsMatchPredicate(Arrays.asList(Collections.singleton(new Tag("friends")),
+                        Collections.singleton(new Tag("colleagues"))), Collections.emptySet()))));
+        assertParseSuccess(parser, " t/friends n/Alice Bob p/94351253 e/alice@example.com a/Jurong  West "
+                + "p/98765432 t/colleagues n/Carl", expectedFindCommand);
+
+        // single field
+        expectedFindCommand = new FindCommand(new PersonQuery(Collections.singletonList(
+                new PhoneMatchesPredicate(Collections.singletonList("94351253")))));
+        assertParseSuccess(parser, " p/94351253", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_tagPrefixes_returnsFindCommandWithTagQuery() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(Collections.singletonList(
+                new TagsMatchPredicate(Arrays.asList(
+                        new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("family"))),
+                        Collections.singleton(new Tag("colleagues"))),
+                        new HashSet<>(Arrays.asList(new Tag("former"), new Tag("blocked")))))));
+        assertParseSuccess(parser, " t/friends family -t/former t/colleagues -t/blocked", expectedFindCommand);
+
+        // excluded tags only
+        expectedFindCommand = new FindCommand(new PersonQuery(Collections.singletonList(
+                new TagsMatchPredicate(Collections.emptyList(), Collections.singleton(new Tag("former"))))));
+        assertParseSuccess(parser, " -t/former", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_limit_returnsRankedFindCommand() {
+        // name keywords
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), 5);
+        assertParseSuccess(parser, " Alice Bob top/5", expectedFindCommand);
+
+        // field prefixes
+        expectedFindCommand = new FindCommand(new PersonQuery(Collections.singletonList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")))), 3);
+        assertParseSuccess(parser, " top/3 n/Alice", expectedFindCommand);
+
+        // invalid limit
+        assertParseFailure(parser, " Alice top/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " Alice top/many", ParserUtil.MESSAGE_INVALID_LIMIT);
+
+        // limit without any keywords
+        assertParseFailure(parser, " top/5", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preambleWithFieldPrefixes_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " Alice n/Bob", expectedMessage);
+    }
+
+    @Test
+    public void parse_emptyKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " n/", expectedMessage);
+        assertParseFailure(parser, " n/Alice a/", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFieldValue_throwsParseException() {
+        assertParseFailure(parser, " p/12a", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " e/alice", Email.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/not-a-tag", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -t/not-a-tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -8,20 +8,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.ParallelScan;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -135,6 +141,95 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void addPersonAndSetPerson_filteredList_filterKeptAndOnlyChangedPersonTested() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        int[] testCount = new int[1];
+        Predicate<Person> predicate = person -> {
+            testCount[0]++;
+            return person.getTags().stream().anyMatch(tag -> tag.tagName.equals("friends"));
+        };
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // added person that does not satisfy the filter -> not shown
+        testCount[0] = 0;
+        modelManager.addPerson(BOB);
+        assertEquals(1, testCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // edited person that no longer satisfies the filter -> no longer shown
+        testCount[0] = 0;
+        Person editedAlice = new PersonBuilder(ALICE).withTags().build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(1, testCount[0]);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        // edited person that satisfies the filter -> shown
+        testCount[0] = 0;
+        modelManager.setPerson(BOB, new PersonBuilder(BOB).withTags("friends").build());
+        assertEquals(1, testCount[0]);
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void rankFilteredPersonList_bestMatchesShownBestFirst() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Daniel"));
+        modelManager.rankFilteredPersonList(predicate, 1);
+        assertEquals(Collections.singletonList(DANIEL), modelManager.getFilteredPersonList());
+
+        // added person that satisfies the query -> shown in order of score
+        Person addedPerson = new PersonBuilder().withName("Daniel Meier Junior").withPhone("91234567").build();
+        modelManager.addPerson(addedPerson);
+        assertEquals(Arrays.asList(DANIEL, addedPerson), modelManager.getFilteredPersonList());
+
+        // filtering again -> address book order
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL, addedPerson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setFilteredPersonListState_rankedList_sameListAfterAdd() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.rankFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Daniel")), 1);
+        ModelManager copy = new ModelManager(modelManager.getAddressBook(), new UserPrefs());
+        copy.setFilteredPersonListState(modelManager);
+        assertEquals(modelManager, copy);
+
+        // added person that satisfies the query -> shown by both in order of score
+        Person addedPerson = new PersonBuilder().withName("Daniel Meier Junior").withPhone("91234567").build();
+        modelManager.addPerson(addedPerson);
+        copy.addPerson(addedPerson);
+        assertEquals(modelManager, copy);
+
+        // unfiltered list -> copy unfiltered
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        copy.setFilteredPersonListState(modelManager);
+        assertEquals(modelManager.getFilteredPersonList(), copy.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_largeAddressBook_sameAsSerialFilter() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getManyPersons(ParallelScan.PARALLEL_THRESHOLD + 100));
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Predicate<Person> predicate = person -> person.getPhone().value.endsWith("7");
+
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(new FilteredList<>(modelManager.getAddressBook().getPersonList(), predicate),
+                modelManager.getFilteredPersonList());
+
+        // persons added after the filter was set are tested with the predicate itself
+        Person addedPerson = new PersonBuilder().withName("Added").withPhone("99999997").build();
+        modelManager.deletePerson(modelManager.getAddressBook().getPersonList().get(0));
+        modelManager.setPerson(modelManager.getAddressBook().getPersonList().get(0), addedPerson);
+        assertTrue(modelManager.getFilteredPersonList().contains(addedPerson));
+        assertEquals(new FilteredList<>(modelManager.getAddressBook().getPersonList(), predicate),
+                modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void setSelectedPerson_personNotInFilteredPersonList_throwsPersonNotFoundException() {
         thrown.expect(PersonNotFoundException.class);
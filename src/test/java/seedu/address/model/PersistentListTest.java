@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersistentList<String> abc = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void of_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(null);
+    }
+
+    @Test
+    public void of_list_sameElementsInOrder() {
+        assertEquals(Arrays.asList("a", "b", "c"), abc.toList());
+        assertEquals(3, abc.size());
+        assertEquals("b", abc.get(1));
+    }
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty().toList());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        abc.get(3);
+    }
+
+    @Test
+    public void add_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        abc.add(0, null);
+    }
+
+    @Test
+    public void set_add_remove_originalListUnchanged() {
+        assertEquals(Arrays.asList("a", "x", "c"), abc.set(1, "x").toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), abc.add(3, "d").toList());
+        assertEquals(Arrays.asList("a", "c"), abc.remove(1).toList());
+        assertEquals(Arrays.asList("a", "b", "c"), abc.toList());
+    }
+
+    @Test
+    public void remove_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        abc.remove(-1);
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            versions.add(actual);
+            expectedVersions.add(new ArrayList<>(expected));
+        }
+
+        // every earlier version must still hold its own elements
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(abc.equals(PersistentList.of(Arrays.asList("a", "b", "c"))));
+        assertEquals(abc.hashCode(), PersistentList.of(Arrays.asList("a", "b", "c")).hashCode());
+
+        // same values built differently -> returns true
+        assertTrue(abc.equals(PersistentList.<String>empty().add(0, "c").add(0, "a").add(1, "b")));
+
+        // same object -> returns true
+        assertTrue(abc.equals(abc));
+
+        // null -> returns false
+        assertFalse(abc.equals(null));
+
+        // different types -> returns false
+        assertFalse(abc.equals(Arrays.asList("a", "b", "c")));
+
+        // different values -> returns false
+        assertNotEquals(abc, abc.set(0, "z"));
+        assertNotEquals(abc, abc.remove(2));
+    }
+}
@@ -18,4 +18,23 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookCompressionLevel_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCompressionLevel(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCompressionLevel(10));
+    }
+
+    @Test
+    public void setMaxUndoStatesInMemory_lessThanTwo_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxUndoStatesInMemory(1));
+    }
+
+    @Test
+    public void setMaxUndoPersonsInMemory_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxUndoPersonsInMemory(-1));
+    }
+
 }
@@ -7,13 +7,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class VersionedAddressBookTest {
@@ -59,6 +64,102 @@ public class VersionedAddressBookTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void commit_personLevelChanges_eachStateSaved() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(AMY, BOB);
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook, addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(BOB).withPerson(CARL).build()),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_moreStatesThanMaxInMemory_allStatesRestorable() {
+        ReadOnlyAddressBook addressBookWithAmyAndCarl = new AddressBookBuilder().withPerson(AMY).withPerson(CARL)
+                .build();
+        ReadOnlyAddressBook addressBookWithBobAndCarl = new AddressBookBuilder().withPerson(BOB).withPerson(CARL)
+                .build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 2);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(AMY, BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(emptyAddressBook);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook, addressBookWithAmy, addressBookWithAmyAndCarl,
+                        addressBookWithBobAndCarl, emptyAddressBook),
+                addressBookWithCarl,
+                Collections.emptyList());
+
+        // states are moved out of memory again when committing
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 4);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook, addressBookWithAmy),
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_afterUndoingToStatesOnDisk_statesNotWrittenToDiskAgain() throws Exception {
+        VersionedAddressBook undoneAndRedone = new VersionedAddressBook(emptyAddressBook, 2);
+        VersionedAddressBook committedOnly = new VersionedAddressBook(emptyAddressBook, 2);
+        List<Person> persons = getTypicalPersons();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i >= 2) {
+                // pages in the state before the current one, which is moved out again on the next commit
+                shiftCurrentStatePointerLeftwards(undoneAndRedone, 2);
+                undoneAndRedone.redo();
+                undoneAndRedone.redo();
+            }
+            undoneAndRedone.addPerson(persons.get(i));
+            undoneAndRedone.commit();
+            committedOnly.addPerson(persons.get(i));
+            committedOnly.commit();
+        }
+
+        assertEquals(committedOnly, undoneAndRedone);
+        assertEquals(Files.size(committedOnly.getSpillFilePath().get()),
+                Files.size(undoneAndRedone.getSpillFilePath().get()));
+    }
+
+    @Test
+    public void commit_morePersonsThanMaxInMemory_allStatesRestorable() throws Exception {
+        ReadOnlyAddressBook addressBookWithAmyAndBob = new AddressBookBuilder().withPerson(AMY).withPerson(BOB)
+                .build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                VersionedAddressBook.DEFAULT_MAX_STATES_IN_MEMORY, 1);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.getSpillFilePath().isPresent());
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy, addressBookWithAmyAndBob),
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build(),
+                Collections.emptyList());
+
+        // the states on disk were all paged back in, so the file is emptied
+        assertEquals(0, Files.size(versionedAddressBook.getSpillFilePath().get()));
+    }
+
     @Test
     public void canUndo_multipleAddressBookPointerAtEndOfStateList_returnsTrue() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(
@@ -150,6 +251,41 @@ public class VersionedAddressBookTest {
                 Arrays.asList(addressBookWithAmy, addressBookWithBob));
     }
 
+    @Test
+    public void undo_singlePersonEdited_onlyEditedPositionChanged() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(
+                new AddressBookBuilder().withPerson(AMY).withPerson(CARL).build());
+        versionedAddressBook.setPerson(CARL, BOB);
+        versionedAddressBook.commit();
+
+        List<String> changes = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList("1:" + Collections.singletonList(BOB) + "->"
+                + Collections.singletonList(CARL)), changes);
+
+        changes.clear();
+        versionedAddressBook.redo();
+        assertEquals(Collections.singletonList("1:" + Collections.singletonList(CARL) + "->"
+                + Collections.singletonList(BOB)), changes);
+    }
+
+    @Test
+    public void undo_uncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(CARL);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void undo_singleAddressBook_throwsNoUndoableStateException() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
@@ -208,7 +344,43 @@ public class VersionedAddressBookTest {
     }
 
     @Test
-    public void equals() {
+    public void getSnapshot_afterChanges_hasCurrentPersonsAndIsNotChangedLater() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
+        versionedAddressBook.undo();
+        versionedAddressBook.addPerson(CARL);
+
+        ReadOnlyAddressBook snapshot = versionedAddressBook.getSnapshot();
+        assertEquals(Arrays.asList(AMY, CARL), snapshot.getPersonList());
+        assertEquals(Arrays.asList(AMY, CARL), new ArrayList<>(snapshot.getPersonList()));
+
+        versionedAddressBook.removePerson(AMY);
+        versionedAddressBook.commit();
+        assertEquals(Arrays.asList(AMY, CARL), snapshot.getPersonList());
+        assertEquals(Collections.singletonList(CARL), versionedAddressBook.getSnapshot().getPersonList());
+    }
+
+    @Test
+    public void appendToInitialState_thenCommitAndUndo_appendedPersonsKept() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy);
+        versionedAddressBook.appendToInitialState(Collections.singletonList(BOB));
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void appendToInitialState_afterCommit_throwsIllegalStateException() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        assertThrows(IllegalStateException.class, () ->
+                versionedAddressBook.appendToInitialState(Collections.singletonList(BOB)));
+    }
+
+    @Test
+    public void equals() throws Exception {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
 
         // same values -> returns true
@@ -228,6 +400,23 @@ public class VersionedAddressBookTest {
         VersionedAddressBook differentAddressBookList = prepareAddressBookList(addressBookWithBob, addressBookWithCarl);
         assertFalse(versionedAddressBook.equals(differentAddressBookList));
 
+        // same states, some of them not in memory -> returns true
+        VersionedAddressBook withStatesOnDisk = prepareAddressBookList(2,
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob);
+        assertTrue(withStatesOnDisk.equals(prepareAddressBookList(2,
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob)));
+        assertFalse(withStatesOnDisk.equals(prepareAddressBookList(2,
+                addressBookWithCarl, addressBookWithAmy, addressBookWithBob)));
+
+        // states on disk cannot be read back -> returns false
+        VersionedAddressBook withUnreadableStates = prepareAddressBookList(2,
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob);
+        VersionedAddressBook otherWithUnreadableStates = prepareAddressBookList(2,
+                addressBookWithCarl, addressBookWithAmy, addressBookWithBob);
+        Files.write(withUnreadableStates.getSpillFilePath().get(), new byte[0]);
+        Files.write(otherWithUnreadableStates.getSpillFilePath().get(), new byte[0]);
+        assertFalse(withUnreadableStates.equals(otherWithUnreadableStates));
+
         // different current pointer index -> returns false
         VersionedAddressBook differentCurrentStatePointer = prepareAddressBookList(
                 addressBookWithAmy, addressBookWithBob);
@@ -276,9 +465,19 @@ public class VersionedAddressBookTest {
      * {@code VersionedAddressBook#currentStatePointer} at the end of list.
      */
     private VersionedAddressBook prepareAddressBookList(ReadOnlyAddressBook... addressBookStates) {
+        return prepareAddressBookList(VersionedAddressBook.DEFAULT_MAX_STATES_IN_MEMORY, addressBookStates);
+    }
+
+    /**
+     * Creates and returns a {@code VersionedAddressBook} that keeps at most {@code maxStatesInMemory} states in memory,
+     * with the {@code addressBookStates} added into it, and the {@code VersionedAddressBook#currentStatePointer} at the
+     * end of list.
+     */
+    private VersionedAddressBook prepareAddressBookList(int maxStatesInMemory,
+            ReadOnlyAddressBook... addressBookStates) {
         assertFalse(addressBookStates.length == 0);
 
-        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookStates[0]);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookStates[0], maxStatesInMemory);
         for (int i = 1; i < addressBookStates.length; i++) {
             versionedAddressBook.resetData(addressBookStates[i]);
             versionedAddressBook.commit();
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.search.RankedPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        AddressContainsKeywordsPredicate firstPredicate =
+                new AddressContainsKeywordsPredicate(Collections.singletonList("first"));
+        AddressContainsKeywordsPredicate secondPredicate =
+                new AddressContainsKeywordsPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AddressContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test() {
+        AddressContainsKeywordsPredicate predicate =
+                new AddressContainsKeywordsPredicate(Arrays.asList("CLEMENTI", "jurong"));
+
+        // any keyword in different case -> returns true
+        assertTrue(predicate.test(new PersonBuilder().withAddress("311, Clementi Ave 2").build()));
+
+        // partial word -> returns false
+        assertFalse(predicate.test(new PersonBuilder().withAddress("311, Clementis Ave 2").build()));
+    }
+
+    @Test
+    public void score() {
+        Person person = new PersonBuilder().withAddress("Main Street 5").build();
+        int exactMatchScore = RankedPredicate.EXACT_MATCH_SCORE * AddressContainsKeywordsPredicate.FIELD_WEIGHT;
+        assertEquals(exactMatchScore,
+                new AddressContainsKeywordsPredicate(Arrays.asList("street", "road")).score(person));
+        assertEquals(2 * exactMatchScore,
+                new AddressContainsKeywordsPredicate(Arrays.asList("street", "main")).score(person));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        EmailMatchesPredicate firstPredicate = new EmailMatchesPredicate(Collections.singletonList("a@b.com"));
+        EmailMatchesPredicate secondPredicate = new EmailMatchesPredicate(Arrays.asList("a@b.com", "c@d.com"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailMatchesPredicate(Collections.singletonList("a@b.com"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different emails -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test() {
+        EmailMatchesPredicate predicate = new EmailMatchesPredicate(Arrays.asList("alice@example.com", "b@c.com"));
+
+        // exact email in different case -> returns true
+        assertTrue(predicate.test(new PersonBuilder().withEmail("Alice@Example.com").build()));
+
+        // different email -> returns false
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@example.org").build()));
+    }
+
+    @Test
+    public void findMatches_personsWithEmails() {
+        PersonSearchIndex searchIndex = new PersonSearchIndex(getTypicalAddressBook().getPersonList());
+        EmailMatchesPredicate predicate = new EmailMatchesPredicate(Collections.singletonList("ALICE@example.com"));
+        assertEquals(Collections.singleton(ALICE), predicate.findMatches(searchIndex));
+        assertEquals(1, predicate.estimateMatchCount(searchIndex));
+    }
+}
@@ -1,14 +1,21 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.RankedPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -72,4 +79,106 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void test_nameContainsPrefixKeywords_returnsTrue() {
+        // Prefix of a word
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Al*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice").build()));
+
+        // Whole word
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("alice*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Wildcard only
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotContainPrefixKeywords_returnsFalse() {
+        // Prefix longer than word
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alicia*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix in the middle of a word
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("lic*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix without wildcard
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Al"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameContainsFuzzyKeywords_returnsTrue() {
+        // One typo
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Alce~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two typos in a long word
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("pualine~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+
+        // Exact word
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("bob~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotContainFuzzyKeywords_returnsFalse() {
+        // Too many typos
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alcie~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Short keywords must match exactly
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("ab~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Al Bob").build()));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, NameContainsKeywordsPredicate.getMaxEditDistance("ab"));
+        assertEquals(1, NameContainsKeywordsPredicate.getMaxEditDistance("abc"));
+        assertEquals(1, NameContainsKeywordsPredicate.getMaxEditDistance("abcde"));
+        assertEquals(2, NameContainsKeywordsPredicate.getMaxEditDistance("abcdef"));
+    }
+
+    @Test
+    public void score() {
+        Person person = new PersonBuilder().withName("Alice Bob Carol").build();
+        int weight = NameContainsKeywordsPredicate.FIELD_WEIGHT;
+
+        // exact, prefix and fuzzy matches score decreasingly
+        assertEquals(RankedPredicate.EXACT_MATCH_SCORE * weight, preparePredicate("alice").score(person));
+        assertEquals(RankedPredicate.PREFIX_MATCH_SCORE * weight, preparePredicate("ali*").score(person));
+        assertEquals(RankedPredicate.FUZZY_MATCH_SCORE * weight, preparePredicate("alise~").score(person));
+
+        // prefix and fuzzy keywords that match a whole word score as exact matches
+        assertEquals(RankedPredicate.EXACT_MATCH_SCORE * weight, preparePredicate("bob*").score(person));
+        assertEquals(RankedPredicate.EXACT_MATCH_SCORE * weight, preparePredicate("carol~").score(person));
+
+        // every matched keyword adds to the score
+        assertEquals((RankedPredicate.EXACT_MATCH_SCORE + RankedPredicate.PREFIX_MATCH_SCORE) * weight,
+                preparePredicate("alice ca* dave").score(person));
+    }
+
+    @Test
+    public void findMatches_sameAsTestOnEveryPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("meier", "Kurz", "Bob", "EL*", "g*", "palin~"));
+        Set<Person> expectedMatches = addressBook.getPersonList().stream().filter(predicate)
+                .collect(Collectors.toSet());
+        assertEquals(expectedMatches, predicate.findMatches(new PersonSearchIndex(addressBook.getPersonList())));
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     */
+    private static NameContainsKeywordsPredicate preparePredicate(String userInput) {
+        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
 }
@@ -1,8 +1,11 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -38,4 +41,52 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getFoldedWords() {
+        assertEquals(Arrays.asList("peter", "the", "2nd"), new Name("Peter  THE 2nd").getFoldedWords());
+    }
+
+    @Test
+    public void containsFoldedWord() {
+        Name name = new Name("Peter  THE 2nd");
+
+        // full words -> returns true
+        assertTrue(name.containsFoldedWord("peter"));
+        assertTrue(name.containsFoldedWord(Name.foldWord(" The ")));
+
+        // partial word -> returns false
+        assertFalse(name.containsFoldedWord("pete"));
+
+        // word not folded -> returns false
+        assertFalse(name.containsFoldedWord("Peter"));
+    }
+
+    @Test
+    public void containsFoldedWordStartingWith() {
+        Name name = new Name("Peter  THE 2nd");
+
+        // prefixes of words -> returns true
+        assertTrue(name.containsFoldedWordStartingWith("pe"));
+        assertTrue(name.containsFoldedWordStartingWith("the"));
+        assertTrue(name.containsFoldedWordStartingWith(""));
+
+        // not a prefix -> returns false
+        assertFalse(name.containsFoldedWordStartingWith("eter"));
+        assertFalse(name.containsFoldedWordStartingWith("peters"));
+    }
+
+    @Test
+    public void containsFoldedWordWithin() {
+        Name name = new Name("Peter  THE 2nd");
+
+        // words within distance -> returns true
+        assertTrue(name.containsFoldedWordWithin("peter", 0));
+        assertTrue(name.containsFoldedWordWithin("petr", 1));
+        assertTrue(name.containsFoldedWordWithin("pteer", 2));
+
+        // words too far -> returns false
+        assertFalse(name.containsFoldedWordWithin("petr", 0));
+        assertFalse(name.containsFoldedWordWithin("pteer", 1));
+    }
 }
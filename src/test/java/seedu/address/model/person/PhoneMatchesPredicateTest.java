@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        PhoneMatchesPredicate firstPredicate = new PhoneMatchesPredicate(Collections.singletonList("123"));
+        PhoneMatchesPredicate secondPredicate = new PhoneMatchesPredicate(Arrays.asList("123", "456"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneMatchesPredicate(Collections.singletonList("123"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different phones -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test() {
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(Arrays.asList("123", "456"));
+
+        // any exact phone -> returns true
+        assertTrue(predicate.test(new PersonBuilder().withPhone("456").build()));
+
+        // partial phone -> returns false
+        assertFalse(predicate.test(new PersonBuilder().withPhone("1234").build()));
+    }
+
+    @Test
+    public void findMatches_personsWithPhones() {
+        PersonSearchIndex searchIndex = new PersonSearchIndex(getTypicalAddressBook().getPersonList());
+        PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(Arrays.asList("94351253", "98765432", "000"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), predicate.findMatches(searchIndex));
+        assertEquals(2, predicate.estimateMatchCount(searchIndex));
+    }
+}
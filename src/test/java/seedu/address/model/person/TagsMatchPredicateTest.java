@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagsMatchPredicateTest {
+
+    private static final Set<Tag> FRIENDS = Collections.singleton(new Tag("friends"));
+    private static final Set<Tag> OWES_MONEY = Collections.singleton(new Tag("owesMoney"));
+    private static final Set<Tag> FRIENDS_OR_COLLEAGUES = new HashSet<>(Arrays.asList(new Tag("friends"),
+            new Tag("colleagues")));
+
+    @Test
+    public void equals() {
+        TagsMatchPredicate firstPredicate = new TagsMatchPredicate(Collections.singletonList(FRIENDS), OWES_MONEY);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TagsMatchPredicate(Collections.singletonList(FRIENDS), OWES_MONEY)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different required tags -> returns false
+        assertFalse(firstPredicate.equals(new TagsMatchPredicate(Collections.singletonList(OWES_MONEY), OWES_MONEY)));
+
+        // different excluded tags -> returns false
+        assertFalse(firstPredicate.equals(new TagsMatchPredicate(Collections.singletonList(FRIENDS), FRIENDS)));
+    }
+
+    @Test
+    public void test() {
+        TagsMatchPredicate predicate =
+                new TagsMatchPredicate(Arrays.asList(FRIENDS_OR_COLLEAGUES, FRIENDS), OWES_MONEY);
+
+        // one tag of every group -> returns true
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // no tag of some group -> returns false
+        assertFalse(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+
+        // excluded tag -> returns false
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "owesMoney").build()));
+
+        // no required tags -> returns true unless excluded
+        predicate = new TagsMatchPredicate(Collections.emptyList(), OWES_MONEY);
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("owesMoney").build()));
+    }
+
+    @Test
+    public void findMatches_andOrNot() {
+        PersonSearchIndex searchIndex = new PersonSearchIndex(getTypicalAddressBook().getPersonList());
+        List<Set<Tag>> friendsOrColleagues = Collections.singletonList(FRIENDS_OR_COLLEAGUES);
+
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new TagsMatchPredicate(friendsOrColleagues, Collections.emptySet())
+                        .findMatches(searchIndex));
+        assertEquals(Collections.singleton(BENSON),
+                new TagsMatchPredicate(Arrays.asList(FRIENDS, OWES_MONEY), Collections.emptySet())
+                        .findMatches(searchIndex));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, DANIEL)),
+                new TagsMatchPredicate(friendsOrColleagues, OWES_MONEY).findMatches(searchIndex));
+        assertEquals(3, new TagsMatchPredicate(friendsOrColleagues, OWES_MONEY)
+                .estimateMatchCount(searchIndex));
+    }
+}
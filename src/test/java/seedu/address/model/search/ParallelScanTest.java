@@ -0,0 +1,40 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+
+public class ParallelScanTest {
+
+    private static final Predicate<Person> PHONE_ENDS_WITH_3 = person -> person.getPhone().value.endsWith("3");
+
+    @Test
+    public void findMatches_emptyList_returnsEmptySet() {
+        assertTrue(ParallelScan.findMatches(new ArrayList<>(), PHONE_ENDS_WITH_3).isEmpty());
+    }
+
+    @Test
+    public void findMatches_smallList_sameAsSerialFilter() {
+        assertSameAsSerialFilter(getManyPersons(100));
+    }
+
+    @Test
+    public void findMatches_largeList_sameAsSerialFilter() {
+        assertSameAsSerialFilter(getManyPersons(ParallelScan.PARALLEL_THRESHOLD * 2 + 1));
+    }
+
+    private static void assertSameAsSerialFilter(List<Person> persons) {
+        assertEquals(persons.stream().filter(PHONE_ENDS_WITH_3).collect(Collectors.toSet()),
+                new HashSet<>(ParallelScan.findMatches(persons, PHONE_ENDS_WITH_3)));
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.EmailMatchesPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+public class PersonQueryTest {
+
+    private static final Predicate<Person> NAME_MEIER =
+            new NameContainsKeywordsPredicate(Collections.singletonList("meier"));
+    private static final Predicate<Person> NAME_ANY =
+            new NameContainsKeywordsPredicate(Collections.singletonList("*"));
+    private static final Predicate<Person> PHONE_BENSON =
+            new PhoneMatchesPredicate(Collections.singletonList("98765432"));
+    private static final Predicate<Person> EMAIL_ALICE_OR_BENSON =
+            new EmailMatchesPredicate(Arrays.asList("ALICE@example.com", "johnd@example.com"));
+    private static final Predicate<Person> ADDRESS_STREET =
+            new AddressContainsKeywordsPredicate(Collections.singletonList("street"));
+    private static final Predicate<Person> TAG_FRIENDS =
+            new TagsMatchPredicate(Collections.singletonList(Collections.singleton(new Tag("friends"))),
+                    Collections.emptySet());
+    private static final Predicate<Person> TAG_NOT_OWES_MONEY =
+            new TagsMatchPredicate(Collections.emptyList(), Collections.singleton(new Tag("owesMoney")));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(addressBook.getPersonList());
+
+    @Test
+    public void findMatches_indexedCriteria_intersectionFound() {
+        assertEquals(Collections.singleton(BENSON), findMatches(NAME_MEIER, PHONE_BENSON));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), findMatches(EMAIL_ALICE_OR_BENSON, TAG_FRIENDS));
+    }
+
+    @Test
+    public void findMatches_variousCriteria_sameAsTestOnEveryPerson() {
+        List<List<Predicate<Person>>> queries = Arrays.asList(
+                Arrays.asList(NAME_MEIER, TAG_FRIENDS),
+                Arrays.asList(NAME_ANY, PHONE_BENSON),
+                Arrays.asList(NAME_ANY, ADDRESS_STREET),
+                Arrays.asList(ADDRESS_STREET, TAG_FRIENDS, NAME_MEIER),
+                Collections.singletonList(ADDRESS_STREET),
+                Arrays.asList(EMAIL_ALICE_OR_BENSON, PHONE_BENSON, TAG_FRIENDS, NAME_MEIER),
+                Arrays.asList(TAG_FRIENDS, TAG_NOT_OWES_MONEY),
+                Collections.emptyList());
+        for (List<Predicate<Person>> criteria : queries) {
+            PersonQuery query = new PersonQuery(criteria);
+            Set<Person> expectedMatches = addressBook.getPersonList().stream().filter(query)
+                    .collect(Collectors.toSet());
+            assertEquals(expectedMatches, query.findMatches(searchIndex));
+        }
+    }
+
+    @Test
+    public void estimateMatchCount_mostSelectiveCriterion() {
+        // indexed criteria -> fewest matches of any criterion
+        assertEquals(1, new PersonQuery(Arrays.asList(NAME_MEIER, PHONE_BENSON)).estimateMatchCount(searchIndex));
+
+        // no indexed criteria -> all persons
+        assertEquals(addressBook.getPersonList().size(),
+                new PersonQuery(Collections.singletonList(ADDRESS_STREET)).estimateMatchCount(searchIndex));
+    }
+
+    @Test
+    public void score_sumOfRankedCriteria() {
+        RankedPredicate name = (RankedPredicate) NAME_MEIER;
+        RankedPredicate address = (RankedPredicate) ADDRESS_STREET;
+        Person person = addressBook.getPersonList().stream().filter(NAME_MEIER.and(ADDRESS_STREET)).findFirst().get();
+        assertEquals(name.score(person) + address.score(person),
+                new PersonQuery(Arrays.asList(NAME_MEIER, ADDRESS_STREET, TAG_FRIENDS)).score(person));
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(Arrays.asList(NAME_MEIER, PHONE_BENSON));
+
+        // same values -> returns true
+        assertTrue(query.equals(new PersonQuery(Arrays.asList(NAME_MEIER, PHONE_BENSON))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different criteria -> returns false
+        assertFalse(query.equals(new PersonQuery(Collections.singletonList(NAME_MEIER))));
+    }
+
+    @SafeVarargs
+    private final Set<Person> findMatches(Predicate<Person>... criteria) {
+        return new PersonQuery(Arrays.asList(criteria)).findMatches(searchIndex);
+    }
+}
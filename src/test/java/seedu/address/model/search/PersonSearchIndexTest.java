@@ -0,0 +1,109 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(addressBook.getPersonList());
+    private final NameTokenIndex nameTokenIndex = searchIndex.getNameTokenIndex();
+
+    @Test
+    public void lookUp_existingPersons_allPersonsWithWordFound() {
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), nameTokenIndex.lookUp("Meier"));
+    }
+
+    @Test
+    public void lookUp_differentCaseAndWhitespace_personFound() {
+        assertEquals(Collections.singleton(ALICE), nameTokenIndex.lookUp(" aLiCe "));
+    }
+
+    @Test
+    public void lookUp_partialWord_noPersonFound() {
+        assertEquals(Collections.emptySet(), nameTokenIndex.lookUp("Mei"));
+    }
+
+    @Test
+    public void lookUpPrefix_existingPersons_allPersonsWithWordPrefixFound() {
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL, ELLE)), nameTokenIndex.lookUpPrefix("ME"));
+        assertEquals(Collections.emptySet(), nameTokenIndex.lookUpPrefix("meiers"));
+    }
+
+    @Test
+    public void lookUpFuzzy_existingPersons_closestMatchesFirst() {
+        List<Person> matches = new ArrayList<>(nameTokenIndex.lookUpFuzzy("Meir", 2));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL, ELLE)), new HashSet<>(matches));
+        assertEquals(ELLE, matches.get(2));
+
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), nameTokenIndex.lookUpFuzzy("Meir", 1));
+        assertEquals(Collections.emptySet(), nameTokenIndex.lookUpFuzzy("Meir", 0));
+    }
+
+    @Test
+    public void lookUpFuzzy_afterRemovePerson_removedPersonNotFound() {
+        addressBook.removePerson(ELLE);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), nameTokenIndex.lookUpFuzzy("meyer", 1));
+    }
+
+    @Test
+    public void suggestWords_existingPersons_wordsInOrderUpToLimit() {
+        assertEquals(Arrays.asList("meier", "meyer"), nameTokenIndex.suggestWords("Me", 10));
+        assertEquals(Collections.singletonList("meier"), nameTokenIndex.suggestWords("me", 1));
+        assertEquals(Collections.emptyList(), nameTokenIndex.suggestWords("x", 10));
+    }
+
+    @Test
+    public void suggestWords_afterRemoveLastPersonWithWord_wordNotSuggested() {
+        addressBook.removePerson(ELLE);
+        assertEquals(Collections.singletonList("meier"), nameTokenIndex.suggestWords("me", 10));
+    }
+
+    @Test
+    public void lookUp_afterAddPerson_addedPersonFound() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zelda Meier").withPhone("123").build();
+        addressBook.addPerson(editedAlice);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL, editedAlice)), nameTokenIndex.lookUp("meier"));
+        assertEquals(Collections.singleton(editedAlice), nameTokenIndex.lookUp("zelda"));
+    }
+
+    @Test
+    public void lookUp_afterRemovePerson_removedPersonNotFound() {
+        addressBook.removePerson(BENSON);
+        assertEquals(new HashSet<>(Collections.singletonList(DANIEL)), nameTokenIndex.lookUp("meier"));
+        assertEquals(Collections.emptySet(), nameTokenIndex.lookUp("benson"));
+    }
+
+    @Test
+    public void lookUp_afterUpdatePerson_onlyNewNameFound() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptySet(), nameTokenIndex.lookUp("alice"));
+        assertEquals(Collections.singleton(editedAlice), nameTokenIndex.lookUp("alicia"));
+    }
+
+    @Test
+    public void lookUp_afterResetData_onlyNewPersonsFound() {
+        addressBook.resetData(new AddressBookBuilder().withPerson(HOON).build());
+        assertEquals(Collections.singleton(HOON), nameTokenIndex.lookUp("meier"));
+        assertEquals(Collections.emptySet(), nameTokenIndex.lookUp("alice"));
+    }
+}
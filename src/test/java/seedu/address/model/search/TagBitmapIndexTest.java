@@ -0,0 +1,90 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagBitmapIndexTest {
+
+    private static final List<String> TAG_NAMES = Arrays.asList("friends", "colleagues", "family", "former");
+
+    private final TagBitmapIndex index = new TagBitmapIndex();
+
+    @Test
+    public void select_afterAddAndRemove_onlyIndexedPersonsSelected() {
+        Person alice = new PersonBuilder().withName("Alice").withTags("friends").build();
+        Person bob = new PersonBuilder().withName("Bob").withTags("friends", "former").build();
+        Person carl = new PersonBuilder().withName("Carl").withTags("colleagues").build();
+        index.add(alice);
+        index.add(bob);
+        index.add(carl);
+        assertEquals(2, index.count("friends"));
+
+        index.remove(alice);
+        assertEquals(Collections.singleton(bob), selectAll("friends"));
+        assertEquals(new HashSet<>(Arrays.asList(bob, carl)), index.select(Collections.emptyList(),
+                Collections.emptySet()));
+
+        // the freed ID is reused without leaking the removed person's tags
+        Person dan = new PersonBuilder().withName("Dan").withTags("family").build();
+        index.add(dan);
+        assertEquals(Collections.singleton(bob), selectAll("friends"));
+        assertEquals(Collections.singleton(dan), selectAll("family"));
+        assertEquals(0, index.count("unknown"));
+    }
+
+    @Test
+    public void select_randomTags_sameAsTestOnEveryPerson() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withName("Person " + i)
+                    .withTags(TAG_NAMES.stream().filter(unused -> random.nextBoolean()).toArray(String[]::new))
+                    .build();
+            persons.add(person);
+            index.add(person);
+            if (random.nextInt(4) == 0) {
+                Person removedPerson = persons.remove(random.nextInt(persons.size()));
+                index.remove(removedPerson);
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            List<Set<String>> requiredTagGroups = new ArrayList<>();
+            for (int j = random.nextInt(3); j > 0; j--) {
+                requiredTagGroups.add(randomTagNames(random));
+            }
+            Set<String> excludedTags = randomTagNames(random);
+            Set<Person> expectedPersons = persons.stream()
+                    .filter(person -> matches(person, requiredTagGroups, excludedTags))
+                    .collect(Collectors.toSet());
+            assertEquals(expectedPersons, index.select(requiredTagGroups, excludedTags));
+        }
+    }
+
+    private Set<Person> selectAll(String tagName) {
+        return index.select(Collections.singletonList(Collections.singleton(tagName)), Collections.emptySet());
+    }
+
+    private static Set<String> randomTagNames(Random random) {
+        return TAG_NAMES.stream().filter(unused -> random.nextInt(3) == 0).collect(Collectors.toSet());
+    }
+
+    private static boolean matches(Person person, List<Set<String>> requiredTagGroups, Set<String> excludedTags) {
+        Set<String> tagNames = person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet());
+        return requiredTagGroups.stream().allMatch(group -> group.stream().anyMatch(tagNames::contains))
+                && excludedTags.stream().noneMatch(tagNames::contains);
+    }
+}
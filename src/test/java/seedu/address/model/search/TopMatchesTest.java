@@ -0,0 +1,68 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class TopMatchesTest {
+
+    private static final List<String> WORDS = Arrays.asList("alex", "alexa", "alexis", "alec", "bea", "ben");
+
+    @Test
+    public void find_nonPositiveLimit_throwsIllegalArgumentException() {
+        PersonSearchIndex searchIndex = new PersonSearchIndex(FXCollections.observableArrayList());
+        Assert.assertThrows(IllegalArgumentException.class, () -> TopMatches.find(searchIndex,
+                new NameContainsKeywordsPredicate(Collections.singletonList("alex")), 0));
+    }
+
+    @Test
+    public void find_smallAddressBook_sameAsFullSort() {
+        assertSameAsFullSort(createPersons(200), "alex ale* alexsi~", 10);
+        assertSameAsFullSort(createPersons(200), "alex bea", 300);
+    }
+
+    @Test
+    public void find_largeAddressBook_sameAsFullSort() {
+        assertSameAsFullSort(createPersons(ParallelScan.PARALLEL_THRESHOLD + 1000), "alex ale* alexsi~", 25);
+    }
+
+    /**
+     * Asserts that the best {@code limit} matches of the name keywords in {@code userInput} among {@code persons}
+     * are the first {@code limit} matches after sorting all of them.
+     */
+    private static void assertSameAsFullSort(List<Person> persons, String userInput, int limit) {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+        List<Person> expectedPersons = persons.stream()
+                .filter(predicate)
+                .sorted(TopMatches.bestFirst(predicate))
+                .limit(limit)
+                .collect(Collectors.toList());
+        PersonSearchIndex searchIndex = new PersonSearchIndex(FXCollections.observableArrayList(persons));
+        assertEquals(expectedPersons, TopMatches.find(searchIndex, predicate, limit));
+    }
+
+    private static ObservableList<Person> createPersons(int count) {
+        Random random = new Random(7);
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        for (int i = 0; i < count; i++) {
+            String name = WORDS.get(random.nextInt(WORDS.size())) + " " + WORDS.get(random.nextInt(WORDS.size()))
+                    + " " + i;
+            persons.add(new PersonBuilder().withName(name).build());
+        }
+        return persons;
+    }
+}
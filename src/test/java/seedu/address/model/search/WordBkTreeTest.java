@@ -0,0 +1,108 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class WordBkTreeTest {
+
+    private final WordBkTree tree = new WordBkTree();
+
+    @Before
+    public void setUp() {
+        for (String word : Arrays.asList("alice", "alicia", "alex", "bob", "elle", "ellen")) {
+            tree.add(word);
+        }
+    }
+
+    @Test
+    public void search_closeWords_closestFirst() {
+        assertEquals(Arrays.asList("alice", "alex", "alicia"), tree.search("alic", 2));
+        assertEquals(Arrays.asList("elle", "ellen"), tree.search("elle", 1));
+    }
+
+    @Test
+    public void search_zeroDistance_exactWordOnly() {
+        assertEquals(Collections.singletonList("bob"), tree.search("bob", 0));
+        assertEquals(Collections.emptyList(), tree.search("bobby", 0));
+    }
+
+    @Test
+    public void search_sameDistance_lexicographicOrder() {
+        tree.add("cat");
+        tree.add("bat");
+        assertEquals(Arrays.asList("bat", "cat"), tree.search("rat", 1));
+    }
+
+    @Test
+    public void remove_word_notFound() {
+        tree.remove("alice");
+        assertEquals(Collections.emptyList(), tree.search("alic", 1));
+
+        // adding it back -> found again
+        tree.add("alice");
+        assertEquals(Collections.singletonList("alice"), tree.search("alic", 1));
+    }
+
+    @Test
+    public void remove_mostWords_remainingWordsFound() {
+        for (String word : Arrays.asList("alice", "alicia", "alex", "elle")) {
+            tree.remove(word);
+        }
+        assertEquals(Arrays.asList("bob", "ellen"), tree.search("bobby", 5));
+    }
+
+    @Test
+    public void clear_noWords() {
+        tree.clear();
+        assertEquals(Collections.emptyList(), tree.search("alice", 5));
+    }
+
+    @Test
+    public void randomOperations_matchLinearScan() {
+        Random random = new Random(42);
+        WordBkTree randomTree = new WordBkTree();
+        TreeSet<String> expectedWords = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            if (random.nextInt(3) == 0) {
+                expectedWords.remove(word);
+                randomTree.remove(word);
+            } else {
+                expectedWords.add(word);
+                randomTree.add(word);
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String query = randomWord(random);
+            int maxDistance = random.nextInt(3);
+            List<String> expectedMatches = new ArrayList<>(expectedWords.stream()
+                    .filter(word -> StringUtil.editDistance(query, word) <= maxDistance)
+                    .collect(Collectors.toList()));
+            expectedMatches.sort(Comparator.comparingInt(word -> StringUtil.editDistance(query, word)));
+            assertEquals(expectedMatches, randomTree.search(query, maxDistance));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
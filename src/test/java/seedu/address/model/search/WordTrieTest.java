@@ -0,0 +1,71 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class WordTrieTest {
+
+    private final WordTrie trie = new WordTrie();
+
+    @Before
+    public void setUp() {
+        for (String word : Arrays.asList("alice", "al", "alex", "bob", "alicia")) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void getWordsStartingWith_prefix_wordsInLexicographicOrder() {
+        assertEquals(Arrays.asList("al", "alex", "alice", "alicia"), trie.getWordsStartingWith("al"));
+        assertEquals(Arrays.asList("alice", "alicia"), trie.getWordsStartingWith("alic"));
+        assertEquals(Arrays.asList("al", "alex", "alice", "alicia", "bob"), trie.getWordsStartingWith(""));
+    }
+
+    @Test
+    public void getWordsStartingWith_noWordWithPrefix_emptyList() {
+        assertEquals(Collections.emptyList(), trie.getWordsStartingWith("c"));
+        assertEquals(Collections.emptyList(), trie.getWordsStartingWith("bobby"));
+    }
+
+    @Test
+    public void getWordsStartingWith_limit_firstWordsOnly() {
+        assertEquals(Arrays.asList("al", "alex"), trie.getWordsStartingWith("al", 2));
+        assertEquals(Collections.emptyList(), trie.getWordsStartingWith("al", 0));
+    }
+
+    @Test
+    public void add_existingWord_noDuplicate() {
+        trie.add("bob");
+        assertEquals(Collections.singletonList("bob"), trie.getWordsStartingWith("b"));
+    }
+
+    @Test
+    public void remove_word_onlyThatWordRemoved() {
+        trie.remove("al");
+        trie.remove("alicia");
+        assertEquals(Arrays.asList("alex", "alice"), trie.getWordsStartingWith("al"));
+
+        trie.remove("alice");
+        trie.remove("alex");
+        assertEquals(Collections.emptyList(), trie.getWordsStartingWith("a"));
+        assertEquals(Collections.singletonList("bob"), trie.getWordsStartingWith(""));
+    }
+
+    @Test
+    public void remove_missingWord_noChange() {
+        trie.remove("alic");
+        trie.remove("zed");
+        assertEquals(Arrays.asList("al", "alex", "alice", "alicia"), trie.getWordsStartingWith("al"));
+    }
+
+    @Test
+    public void clear_noWords() {
+        trie.clear();
+        assertEquals(Collections.emptyList(), trie.getWordsStartingWith(""));
+    }
+}
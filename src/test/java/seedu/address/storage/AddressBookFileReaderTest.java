@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.AddressBookStorageFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookFileReaderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getFormat_fileOfEveryFormat_formatReturned() throws Exception {
+        for (AddressBookStorageFormat format : AddressBookStorageFormat.values()) {
+            Path filePath = saveEditedAddressBook(format);
+            assertEquals(format, AddressBookFileReader.getFormat(filePath));
+        }
+    }
+
+    @Test
+    public void getFormat_shortFile_json() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("short.json");
+        Files.write(filePath, new byte[] {(byte) 0xAB});
+        assertEquals(AddressBookStorageFormat.JSON, AddressBookFileReader.getFormat(filePath));
+    }
+
+    @Test
+    public void readAddressBook_fileOfEveryFormat_readByStorageOfEveryFormat() throws Exception {
+        for (AddressBookStorageFormat savedFormat : AddressBookStorageFormat.values()) {
+            for (AddressBookStorageFormat readFormat : AddressBookStorageFormat.values()) {
+                Path filePath = saveEditedAddressBook(savedFormat);
+                AddressBookStorage storage = createStorage(readFormat, filePath);
+                AddressBook read = new AddressBook(storage.readAddressBook().get());
+                assertEquals(savedFormat + " read as " + readFormat, getEditedAddressBook(), read);
+
+                // the next save converts the file, which is then read back by the storage it was saved with
+                read.removePerson(ALICE);
+                storage.saveAddressBook(read);
+                assertEquals(readFormat + " read as " + savedFormat, read,
+                        new AddressBook(createStorage(savedFormat, filePath).readAddressBook().get()));
+            }
+        }
+    }
+
+    /**
+     * Saves the typical address book in {@code format} to a new file, then saves it again with a person added, so
+     * that the formats that only save what changed hold more than one save.
+     */
+    private Path saveEditedAddressBook(AddressBookStorageFormat format) throws Exception {
+        Path filePath = Files.createTempDirectory(testFolder.getRoot().toPath(), "").resolve("addressbook");
+        AddressBookStorage storage = createStorage(format, filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getEditedAddressBook());
+        return filePath;
+    }
+
+    private static AddressBook getEditedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        return addressBook;
+    }
+
+    private static AddressBookStorage createStorage(AddressBookStorageFormat format, Path filePath) {
+        switch (format) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case RECORD_FILE:
+            return new RecordFileAddressBookStorage(filePath);
+        case CHUNKED:
+            return new ChunkedAddressBookStorage(filePath);
+        case COMPRESSED_JSON:
+            return new CompressedJsonAddressBookStorage(filePath, UserPrefs.DEFAULT_COMPRESSION_LEVEL);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+}
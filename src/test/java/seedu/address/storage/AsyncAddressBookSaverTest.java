@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Test
+    public void requestSave_burstWhileSaving_coalescedIntoOneSave() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, ioe -> {
+            throw new AssertionError("Saving should not fail.", ioe);
+        });
+        ReadOnlyAddressBook first = snapshotOf(new AddressBookBuilder().withPerson(ALICE).build());
+        ReadOnlyAddressBook second = snapshotOf(new AddressBookBuilder().withPerson(BENSON).build());
+        ReadOnlyAddressBook third = snapshotOf(new AddressBookBuilder().withPerson(CARL).build());
+
+        saver.requestSave(first);
+        storage.firstSaveStarted.await();
+        saver.requestSave(second);
+        saver.requestSave(third);
+        storage.firstSaveMayFinish.countDown();
+        saver.flush();
+
+        // the second snapshot was replaced by the third before any save picked it up
+        assertEquals(Arrays.asList(first, third), storage.savedAddressBooks);
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_failureHandlerCalled() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.firstSaveMayFinish.countDown();
+        storage.isFailing = true;
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, failures::add);
+
+        saver.requestSave(snapshotOf(new AddressBookBuilder().build()));
+        saver.flush();
+        assertEquals(Collections.singletonList(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void flush_nothingRequested_returnsImmediately() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        new AsyncAddressBookSaver(storage, ioe -> { }).flush();
+        assertTrue(storage.savedAddressBooks.isEmpty());
+    }
+
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(addressBook);
+    }
+
+    /**
+     * An address book storage that records the address books saved to it, and holds up its first save until it is
+     * allowed to finish.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveMayFinish = new CountDownLatch(1);
+        private volatile boolean isFailing;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            firstSaveStarted.countDown();
+            try {
+                firstSaveMayFinish.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedAddressBooks.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
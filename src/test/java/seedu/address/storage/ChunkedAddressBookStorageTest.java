@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChunkedAddressBookStorageTest {
+
+    private static final int PERSON_COUNT = ChunkedAddressBookStorage.PERSONS_PER_CHUNK * 4 + 5;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.chk");
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ChunkedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        ChunkedAddressBookStorage storage = new ChunkedAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ChunkedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ChunkedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editOnePerson_rewritesOneChunk() throws Exception {
+        AddressBook addressBook = getLargeAddressBook();
+        ChunkedAddressBookStorage storage = new ChunkedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        long fullSize = Files.size(filePath);
+
+        Person target = addressBook.getPersonList().get(PERSON_COUNT / 2);
+        addressBook.setPerson(target, new PersonBuilder(target).withAddress("Changed street").build());
+        storage.saveAddressBook(addressBook);
+
+        long growth = Files.size(filePath) - fullSize;
+        assertTrue(growth > 0 && growth < fullSize / 3);
+        assertEquals(addressBook, new AddressBook(new ChunkedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_fileUnchanged() throws Exception {
+        AddressBook addressBook = getLargeAddressBook();
+        ChunkedAddressBookStorage storage = new ChunkedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        storage.saveAddressBook(addressBook);
+        assertTrue(Arrays.equals(bytes, Files.readAllBytes(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_manyAdds_chunksSplitAndFileCompacted() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        ChunkedAddressBookStorage storage = new ChunkedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        long maxSize = 0;
+        for (Person person : getLargeAddressBook().getPersonList()) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+            maxSize = Math.max(maxSize, Files.size(filePath));
+        }
+
+        assertTrue(storage.getSavedChunkPersons().stream()
+                .allMatch(persons -> persons.size() < 2 * ChunkedAddressBookStorage.PERSONS_PER_CHUNK));
+        new ChunkedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertTrue(maxSize <= 4 * Files.size(filePath));
+        assertEquals(addressBook, new AddressBook(new ChunkedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornHeader_previousGenerationRead() throws Exception {
+        AddressBook original = getLargeAddressBook();
+        ChunkedAddressBookStorage storage = new ChunkedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        AddressBook edited = new AddressBook(original);
+        edited.removePerson(edited.getPersonList().get(0));
+        storage.saveAddressBook(edited);
+
+        // the second save wrote the header slot at the start of the file
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[ChunkedAddressBookStorage.HEADER_SLOT_SIZE / 2] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertEquals(original, new AddressBook(new ChunkedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ChunkedAddressBookStorage storage = new ChunkedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertTrue(ChunkedAddressBookStorage.isChunkedFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedChunk_throwsDataConversionException() throws Exception {
+        new ChunkedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[ChunkedAddressBookStorage.DATA_START + 10] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new ChunkedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        new ChunkedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        new ChunkedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getManyPersons(PERSON_COUNT));
+        return addressBook;
+    }
+}
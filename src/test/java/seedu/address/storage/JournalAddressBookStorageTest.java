@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonAddressBookWithoutJournal_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // add, edit and remove -> only journaled
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").build());
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+
+        // read back by another storage
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalOutgrowsSnapshot_compacted() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0);
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        original.addPerson(CARL);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertFalse(snapshot.equals(FileUtil.readFromFile(filePath)));
+        assertTrue(Files.size(journalFilePath) < Files.size(filePath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // a compaction that wrote the new snapshot but not the new journal
+        AddressBook journaled = new AddressBook(original);
+        journaled.addPerson(HOON);
+        storage.saveAddressBook(journaled);
+        original.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastRecord_recordIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath, "{\"type\":\"add\",\"per".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage readingStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(readingStorage.readAddressBook().get()));
+
+        // the next save starts a new journal
+        original.addPerson(IDA);
+        readingStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_inapplicableRecord_throwsDataConversionException() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFilePath, "{\"type\":\"remove\",\"target\":null,\"person\":null}\n".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        new JournalAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void diff() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+
+        // no change -> no records
+        assertEquals(0, JournalAddressBookStorage.diff(Arrays.asList(ALICE, BENSON),
+                Arrays.asList(ALICE, BENSON)).size());
+
+        // removed, edited and added persons -> removals, then edit, then additions
+        List<JsonAdaptedJournalRecord> records = JournalAddressBookStorage.diff(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(editedBenson, CARL, HOON));
+        assertEquals(3, records.size());
+        AddressBook addressBook = new AddressBook();
+        Arrays.asList(ALICE, BENSON, CARL).forEach(addressBook::addPerson);
+        records.forEach(record -> {
+            try {
+                record.applyTo(addressBook);
+            } catch (Exception e) {
+                throw new AssertionError("The records should apply to the old persons.", e);
+            }
+        });
+        assertEquals(Arrays.asList(editedBenson, CARL, HOON), addressBook.getPersonList());
+
+        // reordered persons -> not recordable
+        assertNull(JournalAddressBookStorage.diff(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, ALICE)));
+
+        // person inserted before the end -> not recordable
+        assertNull(JournalAddressBookStorage.diff(Arrays.asList(ALICE, BENSON), Arrays.asList(ALICE, HOON, BENSON)));
+    }
+}
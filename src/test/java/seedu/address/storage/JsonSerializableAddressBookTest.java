@@ -1,17 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -24,6 +30,9 @@ public class JsonSerializableAddressBookTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -50,4 +59,41 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        List<Person> persons = getManyPersons(JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD * 2);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        assertEquals(addressBook, new JsonSerializableAddressBook(addressBook).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidPersons_throwsFirstViolation() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyPersons(JsonSerializableAddressBook
+                .PARALLEL_CONVERSION_THRESHOLD * 2).stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        jsonAdaptedPersons.set(10, new JsonAdaptedPerson("R@chel", "12345", "rachel@example.com", "Street", null));
+        jsonAdaptedPersons.set(20, new JsonAdaptedPerson("Rachel", "+651234", "rachel@example.com", "Street", null));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Name.MESSAGE_CONSTRAINTS);
+        new JsonSerializableAddressBook(jsonAdaptedPersons).toModelType();
+    }
+
+    @Test
+    public void readModelType_moreThanOneChunk_success() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getManyPersons(JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 1));
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        JsonSerializableAddressBook.saveModelType(addressBook, filePath);
+
+        assertEquals(addressBook, JsonSerializableAddressBook.readModelType(filePath));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        JsonSerializableAddressBook.readModelType(DUPLICATE_PERSON_FILE);
+    }
 }
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class RecordFileAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.rec");
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new RecordFileAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_manyChunks_success() throws Exception {
+        AddressBook original = new AddressBook();
+        original.setPersons(getManyPersons(RecordFileAddressBookStorage.RECORDS_PER_CHUNK * 3 + 5));
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertTrue(BinaryAddressBookStorage.startsWith(filePath, RecordFileAddressBookStorage.MAGIC_NUMBER));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_offsetOutOfOrder_throwsDataConversionException() throws Exception {
+        new RecordFileAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int personCount = bytes.getInt(bytes.capacity() - Integer.BYTES * 2);
+        int chunkCount = (personCount + RecordFileAddressBookStorage.RECORDS_PER_CHUNK - 1)
+                / RecordFileAddressBookStorage.RECORDS_PER_CHUNK;
+        int secondOffsetPosition = bytes.capacity() - Integer.BYTES * 3 - chunkCount * Integer.BYTES
+                - personCount * Long.BYTES;
+        bytes.putLong(secondOffsetPosition, bytes.getLong(secondOffsetPosition) + 1000);
+        Files.write(filePath, bytes.array());
+
+        thrown.expect(DataConversionException.class);
+        new RecordFileAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_wrongPersonCount_throwsDataConversionException() throws Exception {
+        new RecordFileAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        bytes.putInt(bytes.capacity() - Integer.BYTES * 2, Integer.MAX_VALUE);
+        Files.write(filePath, bytes.array());
+
+        thrown.expect(DataConversionException.class);
+        new RecordFileAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_recordChanged_throwsUncheckedIoExceptionOnAccess() throws Exception {
+        new RecordFileAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // still a valid name, which only the checksum of its chunk tells apart
+        int namePosition = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(ALICE.getName().fullName);
+        bytes[namePosition] = 'B';
+        Files.write(filePath, bytes);
+        ReadOnlyAddressBook addressBook = new RecordFileAddressBookStorage(filePath).readAddressBook().get();
+
+        thrown.expect(UncheckedIOException.class);
+        addressBook.getPersonList().get(0);
+    }
+
+    @Test
+    public void readAddressBook_lastChunkChanged_otherChunksReadable() throws Exception {
+        List<Person> persons = getManyPersons(RecordFileAddressBookStorage.RECORDS_PER_CHUNK * 3 + 5);
+        AddressBook original = new AddressBook();
+        original.setPersons(persons);
+        new RecordFileAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Person lastPerson = persons.get(persons.size() - 1);
+        int namePosition = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(lastPerson.getName().fullName);
+        bytes[namePosition] = 'Q';
+        Files.write(filePath, bytes);
+
+        List<Person> readPersons = new RecordFileAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(persons.size(), readPersons.size());
+        assertEquals(persons.subList(0, RecordFileAddressBookStorage.RECORDS_PER_CHUNK * 3),
+                readPersons.subList(0, RecordFileAddressBookStorage.RECORDS_PER_CHUNK * 3));
+
+        thrown.expect(UncheckedIOException.class);
+        readPersons.get(persons.size() - 1);
+    }
+
+    @Test
+    public void readAddressBook_tagDictionaryChanged_throwsDataConversionException() throws Exception {
+        new RecordFileAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        int tagPosition = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("friends");
+        bytes[tagPosition] = 'g';
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new RecordFileAddressBookStorage(filePath).readAddressBook();
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getManyPersons;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+    }
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath,
+                ShardedAddressBookStorage.MAX_SHARD_COUNT + 1));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(SHARD_COUNT, getShardFiles().size());
+    }
+
+    @Test
+    public void saveAddressBook_editOnePerson_rewritesOneShard() throws Exception {
+        AddressBook addressBook = getLargeAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(addressBook);
+        List<Path> shardFiles = getShardFiles();
+
+        Person target = addressBook.getPersonList().get(10);
+        addressBook.setPerson(target, new PersonBuilder(target).withAddress("Changed street").build());
+        storage.saveAddressBook(addressBook);
+
+        List<Path> newShardFiles = getShardFiles();
+        assertEquals(SHARD_COUNT, newShardFiles.size());
+        assertEquals(SHARD_COUNT - 1, newShardFiles.stream().filter(shardFiles::contains).count());
+        assertTrue(newShardFiles.contains(ShardedAddressBookStorage.getShardFilePath(filePath,
+                ShardedAddressBookStorage.getShard(target, SHARD_COUNT), 2)));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentShardCount_oldShardsDeleted() throws Exception {
+        AddressBook addressBook = getLargeAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT + 1).saveAddressBook(addressBook);
+
+        assertEquals(SHARD_COUNT + 1, getShardFiles().size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertTrue(BinaryAddressBookStorage.startsWith(filePath, ShardedAddressBookStorage.MAGIC_NUMBER));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataConversionException() throws Exception {
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(getShardFiles().get(0));
+
+        thrown.expect(DataConversionException.class);
+        new ShardedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_shardOfOtherManifest_throwsDataConversionException() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(addressBook);
+        byte[] manifest = Files.readAllBytes(filePath);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // the old manifest has one more person than the new shard, which is renamed to the old one
+        Files.move(getShardFiles().get(0), ShardedAddressBookStorage.getShardFilePath(filePath, 0, 1));
+        Files.write(filePath, manifest);
+
+        thrown.expect(DataConversionException.class);
+        new ShardedAddressBookStorage(filePath).readAddressBook();
+    }
+
+    private List<Path> getShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            return files.filter(file -> file.getFileName().toString().startsWith(filePath.getFileName() + ".shard"))
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getManyPersons(500));
+        return addressBook;
+    }
+}
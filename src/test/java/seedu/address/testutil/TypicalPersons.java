@@ -14,6 +14,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
@@ -73,4 +75,15 @@ public class TypicalPersons {
     public static List<Person> getTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }
+
+    /**
+     * Returns {@code count} distinct persons named "Person 0" onwards, for tests that need a large address book.
+     * Each has its own phone and email, and is tagged "even" or "odd" after its number.
+     */
+    public static List<Person> getManyPersons(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                        .withEmail("person" + i + "@example.com").withTags(i % 2 == 0 ? "even" : "odd").build())
+                .collect(Collectors.toList());
+    }
 }